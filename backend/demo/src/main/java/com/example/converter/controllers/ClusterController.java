@@ -0,0 +1,67 @@
+package com.example.converter.controllers;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.converter.services.ClusterMembershipService;
+
+@RestController
+@RequestMapping("/cluster")
+public class ClusterController {
+
+    @Autowired
+    private ClusterMembershipService clusterMembershipService;
+
+    @GetMapping("/health")
+    public ResponseEntity<?> health() {
+        return ResponseEntity.ok().body(Map.of("status", "UP"));
+    }
+
+    @GetMapping("/nodes")
+    public ResponseEntity<?> nodes() {
+        return ResponseEntity.ok().body(clusterMembershipService.status());
+    }
+
+    @PostMapping("/nodes")
+    public ResponseEntity<?> join(@RequestBody Map<String, String> request,
+                                  @RequestHeader(value = ClusterMembershipService.SECRET_HEADER, required = false) String secret) {
+        if (!clusterMembershipService.isAuthorized(secret)) {
+            return forbidden("Join");
+        }
+        String url = request.get("url");
+        if (url == null || url.isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "Join failed: url is required"
+            ));
+        }
+        clusterMembershipService.join(url);
+        return ResponseEntity.ok().body(clusterMembershipService.status());
+    }
+
+    @DeleteMapping("/nodes")
+    public ResponseEntity<?> leave(@RequestParam("url") String url,
+                                   @RequestHeader(value = ClusterMembershipService.SECRET_HEADER, required = false) String secret) {
+        if (!clusterMembershipService.isAuthorized(secret)) {
+            return forbidden("Leave");
+        }
+        clusterMembershipService.leave(url);
+        return ResponseEntity.ok().body(clusterMembershipService.status());
+    }
+
+    private ResponseEntity<?> forbidden(String action) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
+            "error", action + " failed: missing or wrong cluster secret"
+        ));
+    }
+}
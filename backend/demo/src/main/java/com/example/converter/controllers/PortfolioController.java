@@ -2,18 +2,23 @@ package com.example.converter.controllers;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.converter.dto.PortfolioDataDto;
 import com.example.converter.services.FileStorageService;
+import com.example.converter.services.ParseMetricsService;
+import com.example.converter.services.ParseRoutingService;
 import com.example.converter.services.ResumeParserService;
 
 @RestController
@@ -26,6 +31,12 @@ public class PortfolioController {
     @Autowired
     private ResumeParserService resumeParserService;
 
+    @Autowired
+    private ParseMetricsService parseMetricsService;
+
+    @Autowired
+    private ParseRoutingService parseRoutingService;
+
     @PostMapping("/upload")
     public ResponseEntity<?> uploadFile(@RequestParam("file") MultipartFile file) {
         try {
@@ -42,9 +53,17 @@ public class PortfolioController {
     }
 
     @PostMapping("/parse")
-    public ResponseEntity<?> parseResume(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> parseResume(@RequestBody Map<String, String> request,
+                                         @RequestHeader(value = ParseRoutingService.FORWARDED_HEADER, required = false) String forwardedBy) {
+        String fileName = request.get("fileName");
+        if (forwardedBy == null) {
+            Optional<ResponseEntity<?>> forwarded = parseRoutingService.forwardToOwner(fileName);
+            if (forwarded.isPresent()) {
+                return forwarded.get();
+            }
+        }
+
         try {
-            String fileName = request.get("fileName");
             PortfolioDataDto parsedData = resumeParserService.parseResume(fileName);
             return ResponseEntity.ok().body(parsedData);
         } catch (IOException e) {
@@ -54,6 +73,11 @@ public class PortfolioController {
         }
     }
 
+    @GetMapping("/parse/metrics")
+    public ResponseEntity<?> parseMetrics() {
+        return ResponseEntity.ok().body(parseMetricsService.snapshot());
+    }
+
     @PostMapping("/generate")
     public ResponseEntity<?> generateWebsite(@RequestBody PortfolioDataDto data) {
         try {
@@ -0,0 +1,33 @@
+package com.example.converter.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.converter.DocumentLoad")
+@Label("Document Load")
+@Category({"Portfolio Converter", "Resume Parser"})
+@StackTrace(false)
+public class DocumentLoadEvent extends jdk.jfr.Event {
+
+    @Label("File Name")
+    public String fileName;
+
+    @Label("Format")
+    public String format;
+
+    @Label("File Size")
+    @DataAmount
+    public long fileSize;
+
+    @Label("Page Count")
+    public int pageCount;
+
+    @Label("Timed Out")
+    public boolean timedOut;
+
+    @Label("Error")
+    public String error;
+}
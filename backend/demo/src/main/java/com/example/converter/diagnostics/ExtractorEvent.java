@@ -0,0 +1,36 @@
+package com.example.converter.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.converter.Extractor")
+@Label("Resume Extractor")
+@Category({"Portfolio Converter", "Resume Parser"})
+@StackTrace(false)
+public class ExtractorEvent extends jdk.jfr.Event {
+
+    @Label("File Name")
+    public String fileName;
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("File Size")
+    @DataAmount
+    public long fileSize;
+
+    @Label("Page Count")
+    public int pageCount;
+
+    @Label("Line Count")
+    public int lineCount;
+
+    @Label("Timed Out")
+    public boolean timedOut;
+
+    @Label("Error")
+    public String error;
+}
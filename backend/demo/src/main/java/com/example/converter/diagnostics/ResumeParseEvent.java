@@ -0,0 +1,45 @@
+package com.example.converter.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.converter.ResumeParse")
+@Label("Resume Parse")
+@Category({"Portfolio Converter", "Resume Parser"})
+@StackTrace(false)
+public class ResumeParseEvent extends jdk.jfr.Event {
+
+    @Label("File Name")
+    public String fileName;
+
+    @Label("Format")
+    public String format;
+
+    @Label("File Size")
+    @DataAmount
+    public long fileSize;
+
+    @Label("Page Count")
+    public int pageCount;
+
+    @Label("Line Count")
+    public int lineCount;
+
+    @Label("Low Priority")
+    public boolean lowPriority;
+
+    @Label("Partial")
+    public boolean partial;
+
+    @Label("Timed Out Stage")
+    public String timedOutStage;
+
+    @Label("Failed Stage")
+    public String failedStage;
+
+    @Label("Error")
+    public String error;
+}
@@ -0,0 +1,113 @@
+package com.example.converter.dto;
+
+
+public class DocumentInspectionDto {
+    private String fileName;
+    private String format;
+    private long sizeBytes;
+    private int pageCount = -1;
+    private boolean encrypted;
+    private int imageCount;
+    private double imageRatio;
+    private long largestPartBytes;
+    private long uncompressedBytes;
+    private boolean lowPriority;
+    private String routeReason;
+
+    public DocumentInspectionDto() {}
+
+    public DocumentInspectionDto(String fileName, String format, long sizeBytes) {
+        this.fileName = fileName;
+        this.format = format;
+        this.sizeBytes = sizeBytes;
+    }
+
+    // Getters and setters
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    public void setPageCount(int pageCount) {
+        this.pageCount = pageCount;
+    }
+
+    public boolean isEncrypted() {
+        return encrypted;
+    }
+
+    public void setEncrypted(boolean encrypted) {
+        this.encrypted = encrypted;
+    }
+
+    public int getImageCount() {
+        return imageCount;
+    }
+
+    public void setImageCount(int imageCount) {
+        this.imageCount = imageCount;
+    }
+
+    public double getImageRatio() {
+        return imageRatio;
+    }
+
+    public void setImageRatio(double imageRatio) {
+        this.imageRatio = imageRatio;
+    }
+
+    public long getLargestPartBytes() {
+        return largestPartBytes;
+    }
+
+    public void setLargestPartBytes(long largestPartBytes) {
+        this.largestPartBytes = largestPartBytes;
+    }
+
+    public long getUncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    public void setUncompressedBytes(long uncompressedBytes) {
+        this.uncompressedBytes = uncompressedBytes;
+    }
+
+    public boolean isLowPriority() {
+        return lowPriority;
+    }
+
+    public void setLowPriority(boolean lowPriority) {
+        this.lowPriority = lowPriority;
+    }
+
+    public String getRouteReason() {
+        return routeReason;
+    }
+
+    public void setRouteReason(String routeReason) {
+        this.routeReason = routeReason;
+    }
+}
@@ -8,6 +8,8 @@ public class PortfolioDataDto {
     private List<String> skills;
     private List<ExperienceDto> experience;
     private List<EducationDto> education;
+    private boolean partial;
+    private List<String> incompleteSections = List.of();
 
     public PortfolioDataDto() {}
 
@@ -51,4 +53,20 @@ public class PortfolioDataDto {
     public void setEducation(List<EducationDto> education) {
         this.education = education;
     }
+
+    public boolean isPartial() {
+        return partial;
+    }
+
+    public void setPartial(boolean partial) {
+        this.partial = partial;
+    }
+
+    public List<String> getIncompleteSections() {
+        return incompleteSections;
+    }
+
+    public void setIncompleteSections(List<String> incompleteSections) {
+        this.incompleteSections = incompleteSections;
+    }
 }
\ No newline at end of file
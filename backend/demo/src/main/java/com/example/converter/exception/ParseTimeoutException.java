@@ -0,0 +1,15 @@
+package com.example.converter.exception;
+
+public class ParseTimeoutException extends RuntimeException {
+
+    private final String stage;
+
+    public ParseTimeoutException(String stage) {
+        super("Parse deadline exceeded during " + stage);
+        this.stage = stage;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.converter.exception;
+
+public class ParserBusyException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public ParserBusyException(int retryAfterSeconds) {
+        super("Parser is busy, please retry later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
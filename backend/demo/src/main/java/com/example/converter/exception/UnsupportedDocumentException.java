@@ -0,0 +1,10 @@
+package com.example.converter.exception;
+
+import java.io.IOException;
+
+public class UnsupportedDocumentException extends IOException {
+
+    public UnsupportedDocumentException(String message) {
+        super(message);
+    }
+}
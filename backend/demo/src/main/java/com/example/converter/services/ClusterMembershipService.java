@@ -0,0 +1,216 @@
+package com.example.converter.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Tracks the parse nodes and keeps only the healthy ones on the hash ring
+@Service
+public class ClusterMembershipService {
+
+    public static final String SECRET_HEADER = "X-Cluster-Secret";
+
+    @Value("${cluster.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cluster.self-url:}")
+    private String selfUrl;
+
+    @Value("${cluster.seed-urls:}")
+    private List<String> seedUrls;
+
+    @Value("${cluster.secret:}")
+    private String secret;
+
+    @Value("${cluster.virtual-nodes:128}")
+    private int virtualNodes;
+
+    @Value("${cluster.health-timeout-ms:1000}")
+    private int healthTimeoutMillis;
+
+    private final Set<String> members = ConcurrentHashMap.newKeySet();
+    private ConsistentHashRing ring;
+    private RestClient restClient;
+
+    @PostConstruct
+    void start() {
+        ring = new ConsistentHashRing(virtualNodes);
+        if (!enabled) {
+            return;
+        }
+        if (selfUrl.isBlank()) {
+            throw new IllegalStateException("cluster.self-url must be set when cluster.enabled=true");
+        }
+        if (secret.isBlank()) {
+            throw new IllegalStateException("cluster.secret must be set when cluster.enabled=true");
+        }
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(healthTimeoutMillis);
+        requestFactory.setReadTimeout(healthTimeoutMillis);
+        restClient = RestClient.builder().requestFactory(requestFactory).build();
+
+        selfUrl = normalize(selfUrl);
+        members.add(selfUrl);
+        ring.add(selfUrl);
+        for (String seedUrl : seedUrls) {
+            if (!seedUrl.isBlank() && !normalize(seedUrl).equals(selfUrl)) {
+                members.add(normalize(seedUrl));
+            }
+        }
+    }
+
+    // Announce only once this node is serving, so peers do not route to it too early
+    @EventListener(ApplicationReadyEvent.class)
+    void announce() {
+        if (!enabled) {
+            return;
+        }
+        for (String member : members) {
+            if (member.equals(selfUrl)) {
+                continue;
+            }
+            try {
+                restClient.post()
+                    .uri(member + "/cluster/nodes")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(SECRET_HEADER, secret)
+                    .body(Map.of("url", selfUrl))
+                    .retrieve()
+                    .toBodilessEntity();
+                ring.add(member);
+            } catch (RestClientException e) {
+                // The health check adds the peer once it comes up
+            }
+        }
+    }
+
+    @PreDestroy
+    void leaveCluster() {
+        if (!enabled) {
+            return;
+        }
+        for (String member : members) {
+            if (member.equals(selfUrl)) {
+                continue;
+            }
+            try {
+                restClient.delete()
+                    .uri(member + "/cluster/nodes?url={url}", selfUrl)
+                    .header(SECRET_HEADER, secret)
+                    .retrieve()
+                    .toBodilessEntity();
+            } catch (RestClientException e) {
+                // Peers drop this node on their next failed health check anyway
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cluster.health-interval-ms:5000}")
+    void checkHealth() {
+        if (!enabled) {
+            return;
+        }
+        for (String member : members) {
+            if (member.equals(selfUrl)) {
+                continue;
+            }
+            if (isHealthy(member)) {
+                ring.add(member);
+            } else {
+                ring.remove(member);
+            }
+        }
+    }
+
+    private boolean isHealthy(String member) {
+        try {
+            restClient.get()
+                .uri(member + "/cluster/health")
+                .retrieve()
+                .toBodilessEntity();
+            return true;
+        } catch (RestClientException e) {
+            return false;
+        }
+    }
+
+    // Membership changes must carry the shared secret, or anyone could put their own node on the ring
+    public boolean isAuthorized(String presentedSecret) {
+        if (!enabled || presentedSecret == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+            secret.getBytes(StandardCharsets.UTF_8), presentedSecret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Only a member that answers its health check goes on the ring; otherwise the next check adds it
+    public void join(String url) {
+        String member = normalize(url);
+        members.add(member);
+        if (!member.equals(selfUrl) && isHealthy(member)) {
+            ring.add(member);
+        }
+    }
+
+    public void leave(String url) {
+        String member = normalize(url);
+        if (member.equals(selfUrl)) {
+            return;
+        }
+        members.remove(member);
+        ring.remove(member);
+    }
+
+    // Takes a node off the ring until its next successful health check
+    public void markDown(String url) {
+        ring.remove(normalize(url));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getSelfUrl() {
+        return selfUrl;
+    }
+
+    public boolean isSelf(String url) {
+        return selfUrl.equals(url);
+    }
+
+    public String ownerOf(String fileName) {
+        return ring.nodeFor(fileName);
+    }
+
+    public Map<String, Object> status() {
+        return Map.of(
+            "enabled", enabled,
+            "self", selfUrl,
+            "members", new TreeSet<>(members),
+            "healthy", new TreeSet<>(ring.getNodes())
+        );
+    }
+
+    private static String normalize(String url) {
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
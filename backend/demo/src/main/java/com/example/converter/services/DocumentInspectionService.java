@@ -0,0 +1,362 @@
+package com.example.converter.services;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.converter.dto.DocumentInspectionDto;
+import com.example.converter.exception.UnsupportedDocumentException;
+
+// Pre-flight checks that only look at magic bytes, raw PDF tokens and the DOCX
+// zip directory, so bad inputs fail before PDFBox or POI ever see them
+@Service
+public class DocumentInspectionService {
+
+    private static final byte[] PDF_MAGIC = {'%', 'P', 'D', 'F', '-'};
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 3, 4};
+    private static final byte[] OLE2_MAGIC = {
+        (byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1
+    };
+
+    // The PDF header may be preceded by junk, but must sit within the first 1024 bytes
+    private static final int PDF_HEADER_WINDOW = 1024;
+
+    private static final long ZIP_LOCAL_SIGNATURE = 0x04034b50L;
+    private static final long ZIP_CENTRAL_SIGNATURE = 0x02014b50L;
+    private static final long ZIP_EOCD_SIGNATURE = 0x06054b50L;
+    private static final int ZIP_EOCD_SIZE = 22;
+    private static final int ZIP_CENTRAL_HEADER_SIZE = 46;
+    private static final int ZIP_LOCAL_HEADER_SIZE = 30;
+    private static final int ZIP_MAX_COMMENT = 0xFFFF;
+    private static final long ZIP64_MARKER = 0xFFFFFFFFL;
+    private static final int MAX_APP_PROPERTIES_BYTES = 64 * 1024;
+
+    private static final Pattern PDF_PAGE = Pattern.compile("/Type\\s*/Page(?![A-Za-z])");
+    private static final Pattern PDF_PAGE_TREE = Pattern.compile("/Type\\s*/Pages(?![A-Za-z])");
+    private static final Pattern PDF_COUNT = Pattern.compile("/Count\\s+(\\d{1,9})");
+    private static final Pattern PDF_IMAGE = Pattern.compile("/Subtype\\s*/Image(?![A-Za-z])");
+    private static final Pattern PDF_ENCRYPT = Pattern.compile("/Encrypt(?![A-Za-z])");
+    private static final Pattern PDF_FONT = Pattern.compile("/Font(?![A-Za-z])");
+    private static final Pattern PDF_OBJECT_STREAM = Pattern.compile("/Type\\s*/ObjStm(?![A-Za-z])");
+    private static final Pattern DOCX_PAGES = Pattern.compile("<Pages>(\\d{1,9})</Pages>");
+
+    @Autowired
+    private DocumentStore documentStore;
+
+    @Value("${parser.preflight.max-bytes:10485760}")
+    private long maxBytes;
+
+    @Value("${parser.preflight.max-pages:100}")
+    private int maxPages;
+
+    @Value("${parser.preflight.max-uncompressed-bytes:52428800}")
+    private long maxUncompressedBytes;
+
+    @Value("${parser.preflight.large-bytes:2097152}")
+    private long largeBytes;
+
+    @Value("${parser.preflight.large-pages:10}")
+    private int largePages;
+
+    @Value("${parser.preflight.large-part-bytes:1048576}")
+    private long largePartBytes;
+
+    @Value("${parser.preflight.image-heavy-ratio:0.8}")
+    private double imageHeavyRatio;
+
+    public byte[] readWithinLimit(String fileName) throws IOException {
+        long size = documentStore.size(fileName);
+        if (size > maxBytes) {
+            throw new UnsupportedDocumentException(
+                "Document is too large: " + size + " bytes (limit " + maxBytes + ")");
+        }
+        return documentStore.read(fileName);
+    }
+
+    public DocumentInspectionDto inspect(String fileName, byte[] content) throws IOException {
+        if (content.length > maxBytes) {
+            throw new UnsupportedDocumentException(
+                "Document is too large: " + content.length + " bytes (limit " + maxBytes + ")");
+        }
+
+        if (startsWith(content, OLE2_MAGIC)) {
+            // Legacy .doc files and password-protected .docx files share the OLE2 container
+            throw new UnsupportedDocumentException(
+                "Legacy .doc and password-protected Word documents are not supported");
+        }
+        if (indexOf(content, PDF_MAGIC, PDF_HEADER_WINDOW) >= 0) {
+            return inspectPdf(fileName, content);
+        }
+        if (startsWith(content, ZIP_MAGIC)) {
+            return inspectDocx(fileName, content);
+        }
+        throw new UnsupportedDocumentException("Unsupported file format");
+    }
+
+    private DocumentInspectionDto inspectPdf(String fileName, byte[] content) throws IOException {
+        DocumentInspectionDto inspection = new DocumentInspectionDto(fileName, "pdf", content.length);
+        // Latin-1 maps every byte to exactly one char, so offsets match the raw file
+        String raw = new String(content, StandardCharsets.ISO_8859_1);
+
+        // Page objects packed into compressed object streams are invisible here; the page
+        // tree root often is not, and failing that the count stays unknown (-1) until
+        // checkPageLimit runs after load
+        int pageCount = count(PDF_PAGE.matcher(raw));
+        if (pageCount == 0) {
+            pageCount = pageTreeCount(raw);
+        }
+        if (pageCount > 0) {
+            inspection.setPageCount(pageCount);
+        }
+        checkPageLimit(pageCount);
+
+        // Image XObjects are always streams, so their dictionaries are never compressed away
+        int imageCount = 0;
+        long imageBytes = 0;
+        Matcher image = PDF_IMAGE.matcher(raw);
+        while (image.find()) {
+            imageCount++;
+            int streamStart = raw.indexOf("stream", image.end());
+            int streamEnd = streamStart < 0 ? -1 : raw.indexOf("endstream", streamStart);
+            if (streamEnd > streamStart) {
+                imageBytes += streamEnd - streamStart;
+            }
+        }
+        inspection.setImageCount(imageCount);
+        inspection.setImageRatio(content.length == 0 ? 0 : (double) imageBytes / content.length);
+
+        // Owner-password PDFs still open with an empty user password, so encryption
+        // only costs extra CPU; PDFBox rejects the rest on load
+        inspection.setEncrypted(PDF_ENCRYPT.matcher(raw).find());
+
+        if (content.length > largeBytes) {
+            routeLowPriority(inspection, "large file");
+        } else if (pageCount > largePages) {
+            routeLowPriority(inspection, "many pages");
+        } else if (inspection.getImageRatio() >= imageHeavyRatio) {
+            routeLowPriority(inspection, "image heavy");
+        } else if (imageCount > 0 && !mayHaveTextLayer(raw)) {
+            routeLowPriority(inspection, "no text layer");
+        } else if (inspection.isEncrypted()) {
+            routeLowPriority(inspection, "encrypted");
+        }
+        return inspection;
+    }
+
+    private DocumentInspectionDto inspectDocx(String fileName, byte[] content) throws IOException {
+        DocumentInspectionDto inspection = new DocumentInspectionDto(fileName, "docx", content.length);
+
+        int endOfDirectory = findEndOfCentralDirectory(content);
+        if (endOfDirectory < 0) {
+            throw new UnsupportedDocumentException("Corrupt Word document: zip directory not found");
+        }
+        int entryCount = readShort(content, endOfDirectory + 10);
+        long directoryOffset = readInt(content, endOfDirectory + 16);
+
+        boolean hasDocumentPart = false;
+        long documentPartBytes = 0;
+        long totalBytes = 0;
+        long largestPart = 0;
+        long mediaBytes = 0;
+        int mediaCount = 0;
+        int appPropertiesEntry = -1;
+
+        long offset = directoryOffset;
+        for (int i = 0; i < entryCount; i++) {
+            if (offset + ZIP_CENTRAL_HEADER_SIZE > content.length
+                    || readInt(content, (int) offset) != ZIP_CENTRAL_SIGNATURE) {
+                throw new UnsupportedDocumentException("Corrupt Word document: bad zip directory entry");
+            }
+            int entry = (int) offset;
+            int flags = readShort(content, entry + 8);
+            long uncompressed = readInt(content, entry + 24);
+            int nameLength = readShort(content, entry + 28);
+            int extraLength = readShort(content, entry + 30);
+            int commentLength = readShort(content, entry + 32);
+            if (entry + ZIP_CENTRAL_HEADER_SIZE + nameLength > content.length) {
+                throw new UnsupportedDocumentException("Corrupt Word document: truncated zip directory");
+            }
+            String name = new String(content, entry + ZIP_CENTRAL_HEADER_SIZE, nameLength, StandardCharsets.UTF_8);
+
+            if ((flags & 1) != 0) {
+                throw new UnsupportedDocumentException("Encrypted Word document parts are not supported");
+            }
+            if (uncompressed == ZIP64_MARKER) {
+                throw new UnsupportedDocumentException("Word document part is too large: " + name);
+            }
+
+            totalBytes += uncompressed;
+            largestPart = Math.max(largestPart, uncompressed);
+            if (name.equals("word/document.xml")) {
+                hasDocumentPart = true;
+                documentPartBytes = uncompressed;
+            } else if (name.startsWith("word/media/")) {
+                mediaCount++;
+                mediaBytes += uncompressed;
+            } else if (name.equals("docProps/app.xml")) {
+                appPropertiesEntry = entry;
+            }
+
+            offset += ZIP_CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+
+        if (!hasDocumentPart) {
+            throw new UnsupportedDocumentException("Not a Word document: word/document.xml is missing");
+        }
+        if (totalBytes > maxUncompressedBytes) {
+            throw new UnsupportedDocumentException(
+                "Word document expands to " + totalBytes + " bytes (limit " + maxUncompressedBytes + ")");
+        }
+
+        int pageCount = appPropertiesEntry < 0 ? -1 : readDocxPageCount(content, appPropertiesEntry);
+        inspection.setPageCount(pageCount);
+        checkPageLimit(pageCount);
+
+        inspection.setUncompressedBytes(totalBytes);
+        inspection.setLargestPartBytes(largestPart);
+        inspection.setImageCount(mediaCount);
+        inspection.setImageRatio(totalBytes == 0 ? 0 : (double) mediaBytes / totalBytes);
+
+        if (content.length > largeBytes) {
+            routeLowPriority(inspection, "large file");
+        } else if (pageCount > largePages) {
+            routeLowPriority(inspection, "many pages");
+        } else if (documentPartBytes > largePartBytes) {
+            routeLowPriority(inspection, "large document part");
+        } else if (inspection.getImageRatio() >= imageHeavyRatio) {
+            routeLowPriority(inspection, "image heavy");
+        }
+        return inspection;
+    }
+
+    private int readDocxPageCount(byte[] content, int centralEntry) {
+        int method = readShort(content, centralEntry + 10);
+        long compressedSize = readInt(content, centralEntry + 20);
+        long uncompressedSize = readInt(content, centralEntry + 24);
+        long localOffset = readInt(content, centralEntry + 42);
+
+        if (uncompressedSize > MAX_APP_PROPERTIES_BYTES
+                || localOffset + ZIP_LOCAL_HEADER_SIZE > content.length
+                || readInt(content, (int) localOffset) != ZIP_LOCAL_SIGNATURE) {
+            return -1;
+        }
+        int local = (int) localOffset;
+        long dataOffset = local + ZIP_LOCAL_HEADER_SIZE
+            + readShort(content, local + 26) + readShort(content, local + 28);
+        if (dataOffset + compressedSize > content.length) {
+            return -1;
+        }
+
+        byte[] xml;
+        if (method == 0) {
+            xml = Arrays.copyOfRange(content, (int) dataOffset, (int) (dataOffset + compressedSize));
+        } else if (method == 8) {
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(content, (int) dataOffset, (int) compressedSize);
+                xml = new byte[(int) uncompressedSize];
+                int inflated = inflater.inflate(xml);
+                xml = Arrays.copyOf(xml, inflated);
+            } catch (DataFormatException e) {
+                return -1;
+            } finally {
+                inflater.end();
+            }
+        } else {
+            return -1;
+        }
+
+        Matcher matcher = DOCX_PAGES.matcher(new String(xml, StandardCharsets.UTF_8));
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    // Fonts and page resources packed into compressed object streams are invisible here,
+    // so a missing /Font token only means "no text layer" when there are no object streams
+    private boolean mayHaveTextLayer(String raw) {
+        return PDF_FONT.matcher(raw).find() || PDF_OBJECT_STREAM.matcher(raw).find();
+    }
+
+    private void routeLowPriority(DocumentInspectionDto inspection, String reason) {
+        inspection.setLowPriority(true);
+        inspection.setRouteReason(reason);
+    }
+
+    private int findEndOfCentralDirectory(byte[] content) {
+        int last = content.length - ZIP_EOCD_SIZE;
+        int first = Math.max(0, last - ZIP_MAX_COMMENT);
+        for (int i = last; i >= first; i--) {
+            if (readInt(content, i) == ZIP_EOCD_SIGNATURE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Also called once the parser has the exact page count, for files whose page tree was hidden here
+    public void checkPageLimit(int pageCount) throws UnsupportedDocumentException {
+        if (pageCount > maxPages) {
+            throw new UnsupportedDocumentException(
+                "Document has too many pages: " + pageCount + " (limit " + maxPages + ")");
+        }
+    }
+
+    // The root of the page tree carries the total, so it has the largest /Count of any /Pages node
+    private int pageTreeCount(String raw) {
+        int pageCount = 0;
+        Matcher pageTree = PDF_PAGE_TREE.matcher(raw);
+        while (pageTree.find()) {
+            int objectStart = Math.max(raw.lastIndexOf("endobj", pageTree.start()), 0);
+            int objectEnd = raw.indexOf("endobj", pageTree.end());
+            Matcher count = PDF_COUNT.matcher(raw).region(objectStart, objectEnd < 0 ? raw.length() : objectEnd);
+            if (count.find()) {
+                pageCount = Math.max(pageCount, Integer.parseInt(count.group(1)));
+            }
+        }
+        return pageCount;
+    }
+
+    private int count(Matcher matcher) {
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    private static boolean startsWith(byte[] content, byte[] prefix) {
+        return indexOf(content, prefix, 1) == 0;
+    }
+
+    private static int indexOf(byte[] content, byte[] needle, int window) {
+        int limit = Math.min(content.length - needle.length, window - 1);
+        outer:
+        for (int i = 0; i <= limit; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (content[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static int readShort(byte[] content, int offset) {
+        return (content[offset] & 0xFF) | (content[offset + 1] & 0xFF) << 8;
+    }
+
+    private static long readInt(byte[] content, int offset) {
+        return (content[offset] & 0xFFL)
+            | (content[offset + 1] & 0xFFL) << 8
+            | (content[offset + 2] & 0xFFL) << 16
+            | (content[offset + 3] & 0xFFL) << 24;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.converter.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// Storage shared by every node, so any instance can parse a file uploaded to another one
+public interface DocumentStore {
+
+    void save(String fileName, InputStream content) throws IOException;
+
+    long size(String fileName) throws IOException;
+
+    byte[] read(String fileName) throws IOException;
+}
@@ -0,0 +1,43 @@
+package com.example.converter.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.NoSuchFileException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+// Embedded stand-in for the shared store, handy for tests and single-process runs
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "memory")
+public class InMemoryDocumentStore implements DocumentStore {
+
+    private final Map<String, byte[]> documents = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String fileName, InputStream content) throws IOException {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IOException("File name is required");
+        }
+        if (documents.putIfAbsent(fileName, content.readAllBytes()) != null) {
+            throw new FileAlreadyExistsException(fileName);
+        }
+    }
+
+    @Override
+    public long size(String fileName) throws IOException {
+        return read(fileName).length;
+    }
+
+    @Override
+    public byte[] read(String fileName) throws IOException {
+        byte[] content = fileName == null ? null : documents.get(fileName);
+        if (content == null) {
+            throw new NoSuchFileException(String.valueOf(fileName));
+        }
+        return content;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.converter.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+// Directory-backed store; point file.upload-dir at a shared mount to run several nodes
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalDocumentStore implements DocumentStore {
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Override
+    public void save(String fileName, InputStream content) throws IOException {
+        Path uploadPath = Paths.get(uploadDir);
+
+        if (!Files.exists(uploadPath)) {
+            Files.createDirectories(uploadPath);
+        }
+
+        // Ids are unique and only handed out once this returns, so no node reads the file while it
+        // is written. CREATE_NEW never replaces an existing upload and keeps the process umask.
+        Path filePath = resolve(fileName);
+        OutputStream out = Files.newOutputStream(filePath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        try (out) {
+            content.transferTo(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(filePath);
+            throw e;
+        }
+    }
+
+    @Override
+    public long size(String fileName) throws IOException {
+        return Files.size(resolve(fileName));
+    }
+
+    @Override
+    public byte[] read(String fileName) throws IOException {
+        return Files.readAllBytes(resolve(fileName));
+    }
+
+    Path resolve(String fileName) throws IOException {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IOException("File name is required");
+        }
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path filePath = root.resolve(fileName).normalize();
+        if (!root.equals(filePath.getParent())) {
+            throw new IOException("Invalid file name: " + fileName);
+        }
+        return filePath;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.converter.services;
+
+import com.example.converter.exception.ParseTimeoutException;
+
+// Per-request deadline checked cooperatively between pages and extractor stages
+public class ParseDeadline {
+
+    // Regex engines call charAt() constantly, so only look at the clock every so often
+    private static final int CHARS_PER_CHECK = 4096;
+
+    private final long deadlineNanos;
+    private volatile boolean cancelled;
+    private volatile String stage = "queued";
+
+    // Guarded by this; lets the watchdog tell a queued worker from one stuck inside PDFBox or POI
+    private WorkerState workerState = WorkerState.QUEUED;
+
+    private enum WorkerState { QUEUED, RUNNING, FINISHED, ABANDONED }
+
+    public ParseDeadline(long timeoutMillis) {
+        this.deadlineNanos = System.nanoTime() + timeoutMillis * 1_000_000L;
+    }
+
+    public void enter(String stage) {
+        this.stage = stage;
+        checkpoint();
+    }
+
+    public void checkpoint() {
+        if (isExpired() || Thread.currentThread().isInterrupted()) {
+            throw new ParseTimeoutException(stage);
+        }
+    }
+
+    // Returns false if the watchdog already gave up while the parse was still queued
+    public synchronized boolean startWorker() {
+        if (workerState != WorkerState.QUEUED) {
+            return false;
+        }
+        workerState = WorkerState.RUNNING;
+        return true;
+    }
+
+    // Returns true if the watchdog had abandoned this worker while it was running
+    public synchronized boolean finishWorker() {
+        if (workerState == WorkerState.ABANDONED) {
+            return true;
+        }
+        workerState = WorkerState.FINISHED;
+        return false;
+    }
+
+    // Returns true if the parse never left the queue; it is then dropped without ever running
+    public synchronized boolean abandonQueuedWorker() {
+        if (workerState != WorkerState.QUEUED) {
+            return false;
+        }
+        cancelled = true;
+        workerState = WorkerState.ABANDONED;
+        return true;
+    }
+
+    // Returns true if the worker was still running, i.e. it is now stuck holding a pool thread
+    public synchronized boolean abandonWorker() {
+        cancelled = true;
+        WorkerState previous = workerState;
+        if (previous == WorkerState.FINISHED) {
+            return false;
+        }
+        workerState = WorkerState.ABANDONED;
+        return previous == WorkerState.RUNNING;
+    }
+
+    public boolean isExpired() {
+        return cancelled || System.nanoTime() - deadlineNanos > 0;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    // Wraps text handed to a regex so a runaway match is abandoned once the deadline passes
+    public CharSequence guard(CharSequence text) {
+        return new GuardedCharSequence(text);
+    }
+
+    private class GuardedCharSequence implements CharSequence {
+        private final CharSequence text;
+        private int reads;
+
+        GuardedCharSequence(CharSequence text) {
+            this.text = text;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (++reads % CHARS_PER_CHECK == 0) {
+                checkpoint();
+            }
+            return text.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new GuardedCharSequence(text.subSequence(start, end));
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+}
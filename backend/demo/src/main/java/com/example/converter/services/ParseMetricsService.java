@@ -0,0 +1,70 @@
+package com.example.converter.services;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Service;
+
+@Service
+public class ParseMetricsService {
+
+    private final LongAdder parses = new LongAdder();
+    private final LongAdder lowPriorityParses = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder queueTimeouts = new LongAdder();
+    private final LongAdder abandonedWorkers = new LongAdder();
+    private final AtomicInteger stuckWorkers = new AtomicInteger();
+    private final Map<String, LongAdder> timeoutsByStage = new ConcurrentHashMap<>();
+
+    public void recordParse(boolean lowPriority) {
+        parses.increment();
+        if (lowPriority) {
+            lowPriorityParses.increment();
+        }
+    }
+
+    public void recordCacheHit() {
+        cacheHits.increment();
+    }
+
+    public void recordTimeout(String stage) {
+        timeouts.increment();
+        timeoutsByStage.computeIfAbsent(stage, key -> new LongAdder()).increment();
+    }
+
+    public void recordQueueTimeout() {
+        queueTimeouts.increment();
+    }
+
+    public void recordStuckWorker() {
+        abandonedWorkers.increment();
+        stuckWorkers.incrementAndGet();
+    }
+
+    public void recordStuckWorkerReleased() {
+        stuckWorkers.decrementAndGet();
+    }
+
+    public int getStuckWorkers() {
+        return stuckWorkers.get();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Long> byStage = new TreeMap<>();
+        timeoutsByStage.forEach((stage, count) -> byStage.put(stage, count.sum()));
+        return Map.of(
+            "parses", parses.sum(),
+            "lowPriorityParses", lowPriorityParses.sum(),
+            "cacheHits", cacheHits.sum(),
+            "timeouts", timeouts.sum(),
+            "timeoutsByStage", byStage,
+            "queueTimeouts", queueTimeouts.sum(),
+            "abandonedWorkers", abandonedWorkers.sum(),
+            "stuckWorkers", stuckWorkers.get()
+        );
+    }
+}
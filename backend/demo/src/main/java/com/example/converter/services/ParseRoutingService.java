@@ -0,0 +1,114 @@
+package com.example.converter.services;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import jakarta.annotation.PostConstruct;
+
+// Sends each file id to the node that owns it on the hash ring, so its parse cache stays warm
+@Service
+public class ParseRoutingService {
+
+    public static final String FORWARDED_HEADER = "X-Parse-Forwarded-By";
+
+    @Value("${cluster.connect-timeout-ms:1000}")
+    private int connectTimeoutMillis;
+
+    @Value("${cluster.forward-timeout-ms:35000}")
+    private int forwardTimeoutMillis;
+
+    @Autowired
+    private ClusterMembershipService clusterMembershipService;
+
+    private RestClient restClient;
+
+    @PostConstruct
+    void start() {
+        // The JDK client reports connect timeouts as their own exception type, unlike read timeouts
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(forwardTimeoutMillis);
+        restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    public Optional<ResponseEntity<?>> forwardToOwner(String fileName) {
+        if (!clusterMembershipService.isEnabled() || fileName == null) {
+            return Optional.empty();
+        }
+        String owner = clusterMembershipService.ownerOf(fileName);
+        if (owner == null || clusterMembershipService.isSelf(owner)) {
+            return Optional.empty();
+        }
+
+        try {
+            ResponseEntity<byte[]> response = restClient.post()
+                .uri(owner + "/parse")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(FORWARDED_HEADER, clusterMembershipService.getSelfUrl())
+                .body(Map.of("fileName", fileName))
+                .retrieve()
+                // The owner's answer is final, errors included; parsing again here would only double the work
+                .onStatus(status -> true, (request, clientResponse) -> {})
+                .toEntity(byte[].class);
+            return Optional.of(ResponseEntity.status(response.getStatusCode())
+                .headers(endToEndHeaders(response.getHeaders()))
+                .body(response.getBody()));
+        } catch (ResourceAccessException e) {
+            if (isConnectFailure(e)) {
+                // Owner unreachable; storage is shared, so parse here and skip it until a health check passes
+                clusterMembershipService.markDown(owner);
+                return Optional.empty();
+            }
+            if (e.getCause() instanceof HttpTimeoutException) {
+                // The owner is alive but slow and may still finish; a second parse here would only add load
+                return Optional.of(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(Map.of(
+                    "error", "Parsing failed: " + owner + " did not answer in time"
+                )));
+            }
+            return Optional.empty();
+        } catch (RestClientException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isConnectFailure(ResourceAccessException e) {
+        Throwable cause = e.getCause();
+        return cause instanceof ConnectException
+            || cause instanceof HttpConnectTimeoutException
+            || cause instanceof UnknownHostException
+            || cause instanceof NoRouteToHostException;
+    }
+
+    // Retry-After and the like must reach the client; framing headers belong to the owner's connection
+    private static HttpHeaders endToEndHeaders(HttpHeaders ownerHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(ownerHeaders);
+        headers.remove(HttpHeaders.CONNECTION);
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        headers.remove("Keep-Alive");
+        return headers;
+    }
+}
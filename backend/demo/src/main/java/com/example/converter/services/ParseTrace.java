@@ -0,0 +1,100 @@
+package com.example.converter.services;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.example.converter.dto.DocumentInspectionDto;
+
+// Document shape and per-stage timings for one parse, shared with JFR events and slow-parse capture
+public class ParseTrace {
+
+    private final String fileName;
+    private final String format;
+    private final long fileSize;
+    private final boolean lowPriority;
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Long> stageNanos = new LinkedHashMap<>();
+    private String runningStage;
+    private long runningStageStart;
+    private volatile int pageCount;
+    private volatile int lineCount;
+    private volatile int textLength;
+
+    public ParseTrace(DocumentInspectionDto inspection) {
+        this.fileName = inspection.getFileName();
+        this.format = inspection.getFormat();
+        this.fileSize = inspection.getSizeBytes();
+        this.lowPriority = inspection.isLowPriority();
+        this.pageCount = inspection.getPageCount();
+    }
+
+    // Lets a capture taken at the deadline show how long the stage it cut off had been running
+    public synchronized void beginStage(String stage) {
+        runningStage = stage;
+        runningStageStart = System.nanoTime();
+    }
+
+    // The watchdog may read timings while an abandoned worker is still recording them
+    public synchronized void recordStage(String stage, long nanos) {
+        stageNanos.put(stage, nanos);
+        if (stage.equals(runningStage)) {
+            runningStage = null;
+        }
+    }
+
+    public synchronized Map<String, Long> getStageMillis() {
+        Map<String, Long> millis = new LinkedHashMap<>();
+        stageNanos.forEach((stage, nanos) -> millis.put(stage, nanos / 1_000_000L));
+        if (runningStage != null) {
+            millis.put(runningStage, (System.nanoTime() - runningStageStart) / 1_000_000L);
+        }
+        return millis;
+    }
+
+    public long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+
+    public void recordText(String text) {
+        int lines = text.isEmpty() ? 0 : 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines++;
+            }
+        }
+        this.lineCount = lines;
+        this.textLength = text.length();
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public boolean isLowPriority() {
+        return lowPriority;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    public void setPageCount(int pageCount) {
+        this.pageCount = pageCount;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public int getTextLength() {
+        return textLength;
+    }
+}
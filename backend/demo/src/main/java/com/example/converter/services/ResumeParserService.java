@@ -1,82 +1,528 @@
 package com.example.converter.services;
 
 
-import java.io.File;
-import java.io.FileInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
 import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.example.converter.diagnostics.DocumentLoadEvent;
+import com.example.converter.diagnostics.ExtractorEvent;
+import com.example.converter.diagnostics.ResumeParseEvent;
+import com.example.converter.diagnostics.TextStripEvent;
+import com.example.converter.dto.DocumentInspectionDto;
 import com.example.converter.dto.EducationDto;
 import com.example.converter.dto.ExperienceDto;
 import com.example.converter.dto.PersonalInfoDto;
 import com.example.converter.dto.PortfolioDataDto;
+import com.example.converter.exception.ParseTimeoutException;
+import com.example.converter.exception.ParserBusyException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 @Service
 public class ResumeParserService {
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}\\b");
+    private static final Pattern PHONE_PATTERN = Pattern.compile("(\\+?\\d{1,3}[-\\s]?)?\\(?\\d{3}\\)?[-\\s]?\\d{3}[-\\s]?\\d{4}");
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\b(19|20)\\d{2}\\b");
+    private static final Pattern DURATION_PATTERN = Pattern.compile("\\b(\\d{4})\\s*-\\s*(\\d{4}|present)\\b", Pattern.CASE_INSENSITIVE);
+
+    @Value("${parser.threads:4}")
+    private int parserThreads;
+
+    @Value("${parser.queue-size:64}")
+    private int parserQueueSize;
+
+    @Value("${parser.timeout-ms:10000}")
+    private long timeoutMillis;
+
+    @Value("${parser.low-priority.threads:1}")
+    private int lowPriorityThreads;
+
+    @Value("${parser.low-priority.queue-size:16}")
+    private int lowPriorityQueueSize;
+
+    @Value("${parser.low-priority.timeout-ms:30000}")
+    private long lowPriorityTimeoutMillis;
+
+    @Value("${parser.max-replacement-threads:8}")
+    private int maxReplacementThreads;
+
+    @Value("${parser.retry-after-seconds:5}")
+    private int retryAfterSeconds;
+
+    @Value("${parser.cache-size:256}")
+    private int cacheSize;
+
+    @Autowired
+    private DocumentInspectionService documentInspectionService;
+
+    @Autowired
+    private ParseMetricsService parseMetricsService;
+
+    @Autowired
+    private SlowParseCaptureService slowParseCaptureService;
+
+    // Parses run off the request thread so it can act as a watchdog and give up at the deadline
+    private ThreadPoolExecutor parserExecutor;
+
+    // Huge or image-heavy documents are parsed here so they cannot starve normal resumes
+    private ThreadPoolExecutor lowPriorityExecutor;
+
+    // Extra pool threads standing in for workers stuck inside PDFBox or POI, capped across both pools
+    private final AtomicInteger replacementThreads = new AtomicInteger();
+
+    // Uploaded files are never rewritten, so complete results stay valid; routing keeps hits on one node
+    private Map<String, PortfolioDataDto> parsedCache;
+
+    @PostConstruct
+    void startExecutors() {
+        parsedCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PortfolioDataDto> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        parserExecutor = newParserExecutor("resume-parser-", parserThreads, parserQueueSize, Thread.NORM_PRIORITY);
+        lowPriorityExecutor = newParserExecutor("resume-parser-low-priority-",
+            lowPriorityThreads, lowPriorityQueueSize, Thread.MIN_PRIORITY);
+    }
+
+    @PreDestroy
+    void stopExecutors() {
+        parserExecutor.shutdownNow();
+        lowPriorityExecutor.shutdownNow();
+    }
+
+    private ThreadPoolExecutor newParserExecutor(String namePrefix, int threads, int queueSize, int priority) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(
+            threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            runnable -> {
+                Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(priority);
+                return thread;
+            });
+    }
 
     public PortfolioDataDto parseResume(String fileName) throws IOException {
-        String filePath = uploadDir + File.separator + fileName;
-        
-        if (fileName.endsWith(".pdf")) {
-            return parsePdfResume(filePath);
-        } else if (fileName.endsWith(".docx") || fileName.endsWith(".doc")) {
-            return parseWordResume(filePath);
+        PortfolioDataDto cached = fileName == null ? null : parsedCache.get(fileName);
+        if (cached != null) {
+            parseMetricsService.recordCacheHit();
+            return cached;
+        }
+
+        byte[] content = documentInspectionService.readWithinLimit(fileName);
+        DocumentInspectionDto inspection = documentInspectionService.inspect(fileName, content);
+        ParseTrace trace = new ParseTrace(inspection);
+
+        parseMetricsService.recordParse(inspection.isLowPriority());
+        ResumeParseEvent event = new ResumeParseEvent();
+        event.begin();
+
+        ThreadPoolExecutor executor = inspection.isLowPriority() ? lowPriorityExecutor : parserExecutor;
+        long timeout = inspection.isLowPriority() ? lowPriorityTimeoutMillis : timeoutMillis;
+        ParseDeadline deadline = new ParseDeadline(timeout);
+        PortfolioDataDto result = null;
+        Throwable failure = null;
+        try {
+            result = parseWithDeadline(executor, timeout, deadline, fileName,
+                partial -> parseDocument(content, deadline, trace, partial));
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            // Failed and timed-out runs are the ones most worth recording, so this runs on every exit
+            String timedOutStage = result != null && result.isPartial() ? deadline.getStage() : null;
+            String failedStage = failure != null ? deadline.getStage() : null;
+            event.end();
+            if (event.shouldCommit()) {
+                event.fileName = trace.getFileName();
+                event.format = trace.getFormat();
+                event.fileSize = trace.getFileSize();
+                event.pageCount = trace.getPageCount();
+                event.lineCount = trace.getLineCount();
+                event.lowPriority = trace.isLowPriority();
+                event.partial = result != null && result.isPartial();
+                event.timedOutStage = timedOutStage;
+                event.failedStage = failedStage;
+                event.error = failure == null ? null : failure.getClass().getSimpleName();
+                event.commit();
+            }
+            // A parse that never left the queue says nothing about the document
+            if (!(failure instanceof ParserBusyException)) {
+                slowParseCaptureService.captureIfSlow(content, trace, result,
+                    timedOutStage != null ? timedOutStage : failedStage, failure);
+            }
+        }
+
+        if (!result.isPartial()) {
+            parsedCache.put(fileName, result);
+        }
+        return result;
+    }
+
+    // Fills the given result section by section; whatever is set when the deadline hits is returned
+    interface ParseTask {
+        void run(PortfolioDataDto result) throws IOException;
+    }
+
+    PortfolioDataDto parseWithDeadline(ThreadPoolExecutor executor, long timeout, ParseDeadline deadline,
+                                       String fileName, ParseTask task) throws IOException {
+        PortfolioDataDto result = new PortfolioDataDto();
+        AtomicBoolean replaced = new AtomicBoolean();
+
+        Future<?> future;
+        try {
+            future = executor.submit(() -> {
+                if (!deadline.startWorker()) {
+                    return null;
+                }
+                try {
+                    task.run(result);
+                } finally {
+                    releaseWorker(executor, deadline, replaced);
+                }
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            throw new ParserBusyException(retryAfterSeconds);
+        }
+
+        try {
+            future.get(timeout, TimeUnit.MILLISECONDS);
+            return result;
+        } catch (TimeoutException e) {
+            if (deadline.abandonQueuedWorker()) {
+                // Nothing was parsed, so this is a capacity problem rather than a slow document
+                future.cancel(false);
+                executor.purge();
+                parseMetricsService.recordQueueTimeout();
+                throw new ParserBusyException(retryAfterSeconds);
+            }
+            // Stop the worker at its next checkpoint; code stuck inside PDFBox or POI is abandoned
+            abandonWorker(executor, deadline, replaced);
+            future.cancel(true);
+            parseMetricsService.recordTimeout(deadline.getStage());
+            return partialResult(result);
+        } catch (InterruptedException e) {
+            abandonWorker(executor, deadline, replaced);
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while parsing " + fileName);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ParseTimeoutException timeoutException) {
+                parseMetricsService.recordTimeout(timeoutException.getStage());
+                return partialResult(result);
+            }
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("Parsing failed for " + fileName, cause);
+        }
+    }
+
+    private void abandonWorker(ThreadPoolExecutor executor, ParseDeadline deadline, AtomicBoolean replaced) {
+        synchronized (deadline) {
+            if (deadline.abandonWorker()) {
+                parseMetricsService.recordStuckWorker();
+                replaced.set(addReplacementThread(executor));
+            }
+        }
+    }
+
+    private void releaseWorker(ThreadPoolExecutor executor, ParseDeadline deadline, AtomicBoolean replaced) {
+        synchronized (deadline) {
+            if (deadline.finishWorker()) {
+                parseMetricsService.recordStuckWorkerReleased();
+                if (replaced.get()) {
+                    removeReplacementThread(executor);
+                }
+            }
+        }
+    }
+
+    // Grows the pool by one so a stuck worker does not leave later parses waiting in the queue
+    private boolean addReplacementThread(ThreadPoolExecutor executor) {
+        if (replacementThreads.incrementAndGet() > maxReplacementThreads) {
+            replacementThreads.decrementAndGet();
+            return false;
+        }
+        synchronized (executor) {
+            executor.setMaximumPoolSize(executor.getMaximumPoolSize() + 1);
+            executor.setCorePoolSize(executor.getCorePoolSize() + 1);
+        }
+        return true;
+    }
+
+    private void removeReplacementThread(ThreadPoolExecutor executor) {
+        synchronized (executor) {
+            executor.setCorePoolSize(executor.getCorePoolSize() - 1);
+            executor.setMaximumPoolSize(executor.getMaximumPoolSize() - 1);
+        }
+        replacementThreads.decrementAndGet();
+    }
+
+    private PortfolioDataDto partialResult(PortfolioDataDto result) {
+        // The abandoned worker may still be running, so copy what it finished under its lock
+        synchronized (result) {
+            List<String> incompleteSections = new ArrayList<>();
+            PersonalInfoDto personalInfo = result.getPersonalInfo();
+            if (personalInfo == null) {
+                incompleteSections.add("personalInfo");
+                personalInfo = new PersonalInfoDto("Not Found", "Not Found", "Not Found", "Not Found");
+            }
+            List<String> skills = result.getSkills();
+            if (skills == null) {
+                incompleteSections.add("skills");
+                skills = List.of();
+            }
+            List<EducationDto> education = result.getEducation();
+            if (education == null) {
+                incompleteSections.add("education");
+                education = List.of();
+            }
+            List<ExperienceDto> experience = result.getExperience();
+            if (experience == null) {
+                incompleteSections.add("experience");
+                experience = List.of();
+            }
+
+            PortfolioDataDto partial = new PortfolioDataDto(personalInfo, skills, experience, education);
+            partial.setPartial(true);
+            partial.setIncompleteSections(incompleteSections);
+            return partial;
+        }
+    }
+
+    void parseDocument(byte[] content, ParseDeadline deadline,
+                               ParseTrace trace, PortfolioDataDto result) throws IOException {
+        if ("pdf".equals(trace.getFormat())) {
+            parsePdfResume(content, deadline, trace, result);
         } else {
-            throw new UnsupportedOperationException("Unsupported file format");
+            parseWordResume(content, deadline, trace, result);
         }
     }
 
-    private PortfolioDataDto parsePdfResume(String filePath) throws IOException {
-        try (PDDocument document = PDDocument.load(new File(filePath))) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            String text = stripper.getText(document);
-            return extractDataFromText(text);
+    private void parsePdfResume(byte[] content, ParseDeadline deadline,
+                                ParseTrace trace, PortfolioDataDto result) throws IOException {
+        deadline.enter("documentLoad");
+        trace.beginStage("documentLoad");
+        DocumentLoadEvent loadEvent = new DocumentLoadEvent();
+        loadEvent.begin();
+        long loadStart = System.nanoTime();
+        PDDocument loaded;
+        Throwable loadFailure = null;
+        try {
+            loaded = PDDocument.load(content);
+            trace.setPageCount(loaded.getNumberOfPages());
+        } catch (Throwable e) {
+            loadFailure = e;
+            throw e;
+        } finally {
+            trace.recordStage("documentLoad", System.nanoTime() - loadStart);
+            commitLoadEvent(loadEvent, trace, deadline, loadFailure);
+        }
+
+        try (PDDocument document = loaded) {
+            documentInspectionService.checkPageLimit(document.getNumberOfPages());
+
+            deadline.enter("textStrip");
+            trace.beginStage("textStrip");
+            TextStripEvent stripEvent = new TextStripEvent();
+            stripEvent.begin();
+            long stripStart = System.nanoTime();
+            String text;
+            Throwable stripFailure = null;
+            try {
+                PDFTextStripper stripper = new PDFTextStripper() {
+                    @Override
+                    protected void startPage(PDPage page) throws IOException {
+                        deadline.checkpoint();
+                        super.startPage(page);
+                    }
+                };
+                text = stripper.getText(document);
+                trace.recordText(text);
+            } catch (Throwable e) {
+                stripFailure = e;
+                throw e;
+            } finally {
+                trace.recordStage("textStrip", System.nanoTime() - stripStart);
+                commitTextStripEvent(stripEvent, trace, deadline, stripFailure);
+            }
+
+            extractDataFromText(text, deadline, trace, result);
         }
     }
 
-    private PortfolioDataDto parseWordResume(String filePath) throws IOException {
-        try (FileInputStream fis = new FileInputStream(filePath);
-             XWPFDocument document = new XWPFDocument(fis);
+    private void parseWordResume(byte[] content, ParseDeadline deadline,
+                                 ParseTrace trace, PortfolioDataDto result) throws IOException {
+        deadline.enter("documentLoad");
+        trace.beginStage("documentLoad");
+        DocumentLoadEvent loadEvent = new DocumentLoadEvent();
+        loadEvent.begin();
+        long loadStart = System.nanoTime();
+        XWPFDocument loaded;
+        Throwable loadFailure = null;
+        try {
+            loaded = new XWPFDocument(new ByteArrayInputStream(content));
+        } catch (Throwable e) {
+            loadFailure = e;
+            throw e;
+        } finally {
+            trace.recordStage("documentLoad", System.nanoTime() - loadStart);
+            commitLoadEvent(loadEvent, trace, deadline, loadFailure);
+        }
+
+        try (XWPFDocument document = loaded;
              XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
-            String text = extractor.getText();
-            return extractDataFromText(text);
-        }
-    }
-
-    private PortfolioDataDto extractDataFromText(String text) {
-        Map<String, String> personalInfo = extractPersonalInfo(text);
-        List<String> skills = extractSkills(text);
-        List<Map<String, String>> education = extractEducation(text);
-        List<Map<String, String>> experience = extractExperience(text);
-
-        return new PortfolioDataDto(
-            new PersonalInfoDto(
-                personalInfo.get("name"),
-                personalInfo.get("email"),
-                personalInfo.get("phone"),
-                personalInfo.get("address")
-            ),
-            skills,
-            convertToExperienceDtoList(experience),
-            convertToEducationDtoList(education)
-        );
+            deadline.enter("textStrip");
+            trace.beginStage("textStrip");
+            TextStripEvent stripEvent = new TextStripEvent();
+            stripEvent.begin();
+            long stripStart = System.nanoTime();
+            String text;
+            Throwable stripFailure = null;
+            try {
+                text = extractor.getText();
+                trace.recordText(text);
+            } catch (Throwable e) {
+                stripFailure = e;
+                throw e;
+            } finally {
+                trace.recordStage("textStrip", System.nanoTime() - stripStart);
+                commitTextStripEvent(stripEvent, trace, deadline, stripFailure);
+            }
+
+            extractDataFromText(text, deadline, trace, result);
+        }
+    }
+
+    private void commitLoadEvent(DocumentLoadEvent event, ParseTrace trace, ParseDeadline deadline, Throwable failure) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.fileName = trace.getFileName();
+            event.format = trace.getFormat();
+            event.fileSize = trace.getFileSize();
+            event.pageCount = trace.getPageCount();
+            event.timedOut = timedOut(deadline, failure);
+            event.error = errorName(failure);
+            event.commit();
+        }
+    }
+
+    private void commitTextStripEvent(TextStripEvent event, ParseTrace trace, ParseDeadline deadline, Throwable failure) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.fileName = trace.getFileName();
+            event.format = trace.getFormat();
+            event.fileSize = trace.getFileSize();
+            event.pageCount = trace.getPageCount();
+            event.lineCount = trace.getLineCount();
+            event.textLength = trace.getTextLength();
+            event.timedOut = timedOut(deadline, failure);
+            event.error = errorName(failure);
+            event.commit();
+        }
+    }
+
+    // A worker abandoned inside PDFBox or POI may return normally long after its deadline
+    private static boolean timedOut(ParseDeadline deadline, Throwable failure) {
+        return failure instanceof ParseTimeoutException || deadline.isExpired();
+    }
+
+    private static String errorName(Throwable failure) {
+        return failure == null || failure instanceof ParseTimeoutException ? null : failure.getClass().getSimpleName();
+    }
+
+    private void extractDataFromText(String text, ParseDeadline deadline, ParseTrace trace, PortfolioDataDto result) {
+        runStage("personalInfo", deadline, trace, result,
+            () -> {
+                Map<String, String> personalInfo = extractPersonalInfo(text, deadline);
+                return new PersonalInfoDto(
+                    personalInfo.get("name"),
+                    personalInfo.get("email"),
+                    personalInfo.get("phone"),
+                    personalInfo.get("address")
+                );
+            },
+            result::setPersonalInfo);
+        runStage("skills", deadline, trace, result, () -> extractSkills(text, deadline), result::setSkills);
+        runStage("education", deadline, trace, result,
+            () -> convertToEducationDtoList(extractEducation(text, deadline)), result::setEducation);
+        runStage("experience", deadline, trace, result,
+            () -> convertToExperienceDtoList(extractExperience(text, deadline)), result::setExperience);
+    }
+
+    private <T> void runStage(String stage, ParseDeadline deadline, ParseTrace trace, PortfolioDataDto result,
+                              Supplier<T> extractor, Consumer<T> section) {
+        deadline.enter(stage);
+        trace.beginStage(stage);
+        ExtractorEvent event = new ExtractorEvent();
+        event.begin();
+        long stageStart = System.nanoTime();
+
+        Throwable failure = null;
+        try {
+            T value = extractor.get();
+            synchronized (result) {
+                section.accept(value);
+            }
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            trace.recordStage(stage, System.nanoTime() - stageStart);
+            event.end();
+            if (event.shouldCommit()) {
+                event.fileName = trace.getFileName();
+                event.stage = stage;
+                event.fileSize = trace.getFileSize();
+                event.pageCount = trace.getPageCount();
+                event.lineCount = trace.getLineCount();
+                event.timedOut = timedOut(deadline, failure);
+                event.error = errorName(failure);
+                event.commit();
+            }
+        }
     }
 
-    private Map<String, String> extractPersonalInfo(String text) {
+    private Map<String, String> extractPersonalInfo(String text, ParseDeadline deadline) {
         String[] lines = text.split("\n");
         String name = "";
         String email = "";
@@ -92,21 +538,20 @@ public class ResumeParserService {
         }
 
         // Extract email using regex
-        Pattern emailPattern = Pattern.compile("\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}\\b");
-        Matcher emailMatcher = emailPattern.matcher(text);
+        Matcher emailMatcher = EMAIL_PATTERN.matcher(deadline.guard(text));
         if (emailMatcher.find()) {
             email = emailMatcher.group();
         }
 
         // Extract phone using regex
-        Pattern phonePattern = Pattern.compile("(\\+?\\d{1,3}[-\\s]?)?\\(?\\d{3}\\)?[-\\s]?\\d{3}[-\\s]?\\d{4}");
-        Matcher phoneMatcher = phonePattern.matcher(text);
+        Matcher phoneMatcher = PHONE_PATTERN.matcher(deadline.guard(text));
         if (phoneMatcher.find()) {
             phone = phoneMatcher.group();
         }
 
         // Extract address
         for (String line : lines) {
+            deadline.checkpoint();
             if (line.toLowerCase().contains("address") ||
                 line.toLowerCase().contains("street") ||
                 line.toLowerCase().contains("city") ||
@@ -124,7 +569,7 @@ public class ResumeParserService {
         );
     }
 
-    private List<String> extractSkills(String text) {
+    private List<String> extractSkills(String text, ParseDeadline deadline) {
         List<String> skills = new ArrayList<>();
         String[] commonSkills = {
             "Java", "Python", "JavaScript", "React", "Spring", "Spring Boot",
@@ -145,6 +590,7 @@ public class ResumeParserService {
         boolean inSkillsSection = false;
 
         for (String line : lines) {
+            deadline.checkpoint();
             if (line.toLowerCase().contains("skills") ||
                 line.toLowerCase().contains("technologies") ||
                 line.toLowerCase().contains("technical")) {
@@ -172,12 +618,13 @@ public class ResumeParserService {
         return skills.isEmpty() ? List.of("Skills not found") : skills;
     }
 
-    private List<Map<String, String>> extractEducation(String text) {
+    private List<Map<String, String>> extractEducation(String text, ParseDeadline deadline) {
         List<Map<String, String>> education = new ArrayList<>();
         String[] lines = text.split("\n");
         boolean inEducationSection = false;
 
         for (String line : lines) {
+            deadline.checkpoint();
             if (line.toLowerCase().contains("education") ||
                 line.toLowerCase().contains("academic")) {
                 inEducationSection = true;
@@ -194,7 +641,7 @@ public class ResumeParserService {
                 Map<String, String> edu = Map.of(
                     "degree", extractDegree(line),
                     "institution", extractInstitution(line),
-                    "year", extractYear(line),
+                    "year", extractYear(deadline.guard(line)),
                     "gpa", "N/A"
                 );
                 education.add(edu);
@@ -213,12 +660,13 @@ public class ResumeParserService {
         return education;
     }
 
-    private List<Map<String, String>> extractExperience(String text) {
+    private List<Map<String, String>> extractExperience(String text, ParseDeadline deadline) {
         List<Map<String, String>> experience = new ArrayList<>();
         String[] lines = text.split("\n");
         boolean inExperienceSection = false;
 
         for (String line : lines) {
+            deadline.checkpoint();
             if (line.toLowerCase().contains("experience") ||
                 line.toLowerCase().contains("work") ||
                 line.toLowerCase().contains("employment")) {
@@ -236,7 +684,7 @@ public class ResumeParserService {
                 Map<String, String> exp = Map.of(
                     "position", extractPosition(line),
                     "company", extractCompany(line),
-                    "duration", extractDuration(line),
+                    "duration", extractDuration(deadline.guard(line)),
                     "description", line.trim()
                 );
                 experience.add(exp);
@@ -301,9 +749,8 @@ public class ResumeParserService {
         return "Institution not specified";
     }
 
-    private String extractYear(String text) {
-        Pattern yearPattern = Pattern.compile("\\b(19|20)\\d{2}\\b");
-        Matcher matcher = yearPattern.matcher(text);
+    private String extractYear(CharSequence text) {
+        Matcher matcher = YEAR_PATTERN.matcher(text);
         if (matcher.find()) {
             return matcher.group();
         }
@@ -324,9 +771,8 @@ public class ResumeParserService {
         return text.trim();
     }
 
-    private String extractDuration(String text) {
-        Pattern durationPattern = Pattern.compile("\\b(\\d{4})\\s*-\\s*(\\d{4}|present)\\b", Pattern.CASE_INSENSITIVE);
-        Matcher matcher = durationPattern.matcher(text);
+    private String extractDuration(CharSequence text) {
+        Matcher matcher = DURATION_PATTERN.matcher(text);
         if (matcher.find()) {
             return matcher.group();
         }
@@ -0,0 +1,130 @@
+package com.example.converter.services;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.converter.dto.PortfolioDataDto;
+
+// Keeps a bounded, rotating copy of slow documents plus their stage timings for offline replay
+@Service
+public class SlowParseCaptureService {
+
+    private static final String TIMINGS_SUFFIX = ".timings.properties";
+
+    @Value("${parser.slow-capture.enabled:false}")
+    private boolean enabled;
+
+    @Value("${parser.slow-capture.threshold-ms:5000}")
+    private long thresholdMillis;
+
+    @Value("${parser.slow-capture.dir:slow-parses/}")
+    private String captureDir;
+
+    @Value("${parser.slow-capture.max-files:20}")
+    private int maxFiles;
+
+    // Guarded by the capture lock
+    private long lastCaptureMillis;
+
+    // result is null when the parse failed, failure is null when it did not, and
+    // stoppedStage names the stage that timed out or failed
+    public void captureIfSlow(byte[] content, ParseTrace trace, PortfolioDataDto result,
+                              String stoppedStage, Throwable failure) {
+        if (!enabled) {
+            return;
+        }
+        long elapsedMillis = trace.elapsedMillis();
+        if (elapsedMillis < thresholdMillis) {
+            return;
+        }
+
+        try {
+            capture(content, trace, result, stoppedStage, failure, elapsedMillis);
+        } catch (IOException e) {
+            // Capture is best effort and must never fail the parse itself
+        }
+    }
+
+    private synchronized void capture(byte[] content, ParseTrace trace, PortfolioDataDto result,
+                                      String stoppedStage, Throwable failure, long elapsedMillis) throws IOException {
+        Path capturePath = Paths.get(captureDir);
+
+        if (!Files.exists(capturePath)) {
+            Files.createDirectories(capturePath);
+        }
+
+        // Partial results are not cached, so a client retrying one pathological file would
+        // otherwise fill every slot with copies of it; keep only its latest capture
+        String safeName = trace.getFileName().replaceAll("[^A-Za-z0-9._-]", "_");
+        deleteCaptures(capturePath, safeName);
+
+        // Strictly increasing, so name order stays age order even within one millisecond
+        lastCaptureMillis = Math.max(System.currentTimeMillis(), lastCaptureMillis + 1);
+        String baseName = lastCaptureMillis + "_" + safeName;
+        Files.write(capturePath.resolve(baseName), content);
+
+        List<String> timings = new ArrayList<>();
+        timings.add("fileName=" + trace.getFileName());
+        timings.add("format=" + trace.getFormat());
+        timings.add("fileSize=" + trace.getFileSize());
+        timings.add("pageCount=" + trace.getPageCount());
+        timings.add("lineCount=" + trace.getLineCount());
+        timings.add("textLength=" + trace.getTextLength());
+        timings.add("lowPriority=" + trace.isLowPriority());
+        timings.add("elapsedMs=" + elapsedMillis);
+        if (result != null) {
+            timings.add("partial=" + result.isPartial());
+            timings.add("incompleteSections=" + String.join(",", result.getIncompleteSections()));
+        }
+        if (failure != null) {
+            timings.add("error=" + failure.getClass().getName());
+        }
+        if (stoppedStage != null) {
+            timings.add((failure != null ? "failedStage=" : "timedOutStage=") + stoppedStage);
+        }
+        trace.getStageMillis().forEach((stage, millis) -> timings.add("stage." + stage + "Ms=" + millis));
+        Files.write(capturePath.resolve(baseName + TIMINGS_SUFFIX), timings, StandardCharsets.UTF_8);
+
+        rotate(capturePath);
+    }
+
+    private void deleteCaptures(Path capturePath, String safeName) throws IOException {
+        for (Path document : capturedDocuments(capturePath)) {
+            String name = document.getFileName().toString();
+            if (name.substring(name.indexOf('_') + 1).equals(safeName)) {
+                delete(document);
+            }
+        }
+    }
+
+    private void rotate(Path capturePath) throws IOException {
+        List<Path> documents = capturedDocuments(capturePath);
+        for (int i = 0; i < documents.size() - maxFiles; i++) {
+            delete(documents.get(i));
+        }
+    }
+
+    private List<Path> capturedDocuments(Path capturePath) throws IOException {
+        try (Stream<Path> files = Files.list(capturePath)) {
+            // Names start with the capture timestamp, so name order is age order
+            return files
+                .filter(path -> !path.getFileName().toString().endsWith(TIMINGS_SUFFIX))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private void delete(Path document) throws IOException {
+        Files.deleteIfExists(document);
+        Files.deleteIfExists(document.resolveSibling(document.getFileName() + TIMINGS_SUFFIX));
+    }
+}
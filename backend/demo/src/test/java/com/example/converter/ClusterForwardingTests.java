@@ -0,0 +1,135 @@
+package com.example.converter;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.match.MockRestRequestMatchers;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.client.RestClient;
+
+import com.example.converter.services.ClusterMembershipService;
+import com.example.converter.services.DocumentStore;
+import com.example.converter.services.ParseRoutingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Port 1 is closed, so the startup announce and health check fail fast before the peer is mocked
+@SpringBootTest(properties = {
+    "storage.type=memory",
+    "parser.slow-capture.enabled=false",
+    "cluster.enabled=true",
+    "cluster.self-url=http://127.0.0.1:8080",
+    "cluster.seed-urls=" + ClusterForwardingTests.PEER,
+    "cluster.secret=s3cret",
+    "cluster.health-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+class ClusterForwardingTests {
+
+    static final String PEER = "http://127.0.0.1:1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DocumentStore documentStore;
+
+    @Autowired
+    private ClusterMembershipService clusterMembershipService;
+
+    @Autowired
+    private ParseRoutingService parseRoutingService;
+
+    private Object membershipClient;
+    private Object routingClient;
+    private MockRestServiceServer peer;
+    private String peerFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        membershipClient = ReflectionTestUtils.getField(clusterMembershipService, "restClient");
+        routingClient = ReflectionTestUtils.getField(parseRoutingService, "restClient");
+
+        RestClient.Builder healthBuilder = RestClient.builder();
+        MockRestServiceServer health = MockRestServiceServer.bindTo(healthBuilder).build();
+        ReflectionTestUtils.setField(clusterMembershipService, "restClient", healthBuilder.build());
+        health.expect(requestTo(PEER + "/cluster/health")).andRespond(withSuccess());
+        clusterMembershipService.join(PEER);
+
+        RestClient.Builder forwardBuilder = RestClient.builder();
+        peer = MockRestServiceServer.bindTo(forwardBuilder).build();
+        ReflectionTestUtils.setField(parseRoutingService, "restClient", forwardBuilder.build());
+
+        for (int i = 0; peerFile == null; i++) {
+            String fileName = "forwarding-" + i + "_resume.pdf";
+            if (PEER.equals(clusterMembershipService.ownerOf(fileName))) {
+                peerFile = fileName;
+            }
+        }
+        try {
+            documentStore.save(peerFile, new ByteArrayInputStream(PortfolioConverterApplicationTests.resumePdf()));
+        } catch (FileAlreadyExistsException e) {
+            // Saved by an earlier test in this context
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        clusterMembershipService.leave(PEER);
+        ReflectionTestUtils.setField(clusterMembershipService, "restClient", membershipClient);
+        ReflectionTestUtils.setField(parseRoutingService, "restClient", routingClient);
+    }
+
+    @Test
+    void parseIsForwardedToTheOwnerWithItsStatusAndHeaders() throws Exception {
+        peer.expect(requestTo(PEER + "/parse"))
+            .andExpect(MockRestRequestMatchers.header(ParseRoutingService.FORWARDED_HEADER, "http://127.0.0.1:8080"))
+            .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "7")
+                .body("Parser is busy"));
+
+        mockMvc.perform(parse(peerFile))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"))
+            .andExpect(content().string("Parser is busy"));
+        peer.verify();
+    }
+
+    @Test
+    void forwardedParseIsHandledLocallyInsteadOfForwardedAgain() throws Exception {
+        mockMvc.perform(parse(peerFile).header(ParseRoutingService.FORWARDED_HEADER, PEER))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.personalInfo.name").value("Jane Doe"));
+        peer.verify();
+    }
+
+    private MockHttpServletRequestBuilder parse(String fileName) throws Exception {
+        return post("/parse")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(Map.of("fileName", fileName)));
+    }
+}
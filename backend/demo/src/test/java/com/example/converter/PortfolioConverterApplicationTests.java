@@ -0,0 +1,189 @@
+package com.example.converter;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = {"storage.type=memory", "parser.slow-capture.enabled=false"})
+@AutoConfigureMockMvc
+class PortfolioConverterApplicationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void uploadThenParse() throws Exception {
+        String fileName = upload("resume.pdf", resumePdf());
+
+        mockMvc.perform(post("/parse")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("fileName", fileName))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.partial").value(false))
+            .andExpect(jsonPath("$.personalInfo.name").value("Jane Doe"))
+            .andExpect(jsonPath("$.personalInfo.email").value("jane.doe@example.com"));
+    }
+
+    @Test
+    void pageLimitIsEnforcedWhenObjectStreamsHideThePageTree() throws Exception {
+        String fileName = upload("long.pdf", objectStreamPdf(150));
+
+        mockMvc.perform(post("/parse")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("fileName", fileName))))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value(containsString("too many pages: 150")));
+    }
+
+    @Test
+    void clusterJoinWithoutTheSecretIsRejected() throws Exception {
+        mockMvc.perform(post("/cluster/nodes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("url", "http://attacker:8080"))))
+            .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/cluster/nodes"))
+            .andExpect(jsonPath("$.members").isEmpty());
+    }
+
+    private String upload(String originalName, byte[] content) throws Exception {
+        MockMultipartFile file = new MockMultipartFile(
+            "file", originalName, MediaType.APPLICATION_PDF_VALUE, content);
+
+        String uploadResponse = mockMvc.perform(multipart("/upload").file(file))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.fileName").value(endsWith("_" + originalName)))
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(uploadResponse).get("fileName").asText();
+    }
+
+    // PDF 1.5 layout with the catalog, page tree and pages all inside one compressed object
+    // stream and an xref stream, so no page token is visible to pre-flight inspection
+    private static byte[] objectStreamPdf(int pages) {
+        List<String> objects = new ArrayList<>();
+        objects.add("<</Type /Catalog /Pages 2 0 R>>");
+        StringBuilder kids = new StringBuilder();
+        for (int i = 0; i < pages; i++) {
+            kids.append(5 + i).append(" 0 R ");
+        }
+        objects.add("<</Type /Pages /Kids [" + kids + "] /Count " + pages + ">>");
+        for (int i = 0; i < pages; i++) {
+            objects.add("<</Type /Page /Parent 2 0 R /MediaBox [0 0 612 792]>>");
+        }
+        int[] numbers = new int[objects.size()];
+        numbers[0] = 1;
+        numbers[1] = 2;
+        for (int i = 0; i < pages; i++) {
+            numbers[2 + i] = 5 + i;
+        }
+
+        StringBuilder index = new StringBuilder();
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < objects.size(); i++) {
+            index.append(numbers[i]).append(' ').append(body.length()).append(' ');
+            body.append(objects.get(i)).append('\n');
+        }
+        byte[] objectStream = deflate((index + body.toString()).getBytes(StandardCharsets.ISO_8859_1));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, "%PDF-1.5\n");
+        int objectStreamOffset = out.size();
+        write(out, "3 0 obj\n<</Type /ObjStm /N " + objects.size() + " /First " + index.length()
+            + " /Filter /FlateDecode /Length " + objectStream.length + ">>\nstream\n");
+        out.writeBytes(objectStream);
+        write(out, "\nendstream\nendobj\n");
+
+        int xrefOffset = out.size();
+        int size = 5 + pages;
+        ByteArrayOutputStream xref = new ByteArrayOutputStream();
+        xrefEntry(xref, 0, 0, 65535);
+        xrefEntry(xref, 2, 3, 0);
+        xrefEntry(xref, 2, 3, 1);
+        xrefEntry(xref, 1, objectStreamOffset, 0);
+        xrefEntry(xref, 1, xrefOffset, 0);
+        for (int i = 0; i < pages; i++) {
+            xrefEntry(xref, 2, 3, 2 + i);
+        }
+        write(out, "4 0 obj\n<</Type /XRef /Size " + size + " /W [1 4 2] /Root 1 0 R /Length "
+            + xref.size() + ">>\nstream\n");
+        out.writeBytes(xref.toByteArray());
+        write(out, "\nendstream\nendobj\nstartxref\n" + xrefOffset + "\n%%EOF\n");
+        return out.toByteArray();
+    }
+
+    private static void xrefEntry(ByteArrayOutputStream xref, int type, int field2, int field3) {
+        xref.write(type);
+        xref.write(field2 >>> 24);
+        xref.write(field2 >>> 16);
+        xref.write(field2 >>> 8);
+        xref.write(field2);
+        xref.write(field3 >>> 8);
+        xref.write(field3);
+    }
+
+    private static void write(ByteArrayOutputStream out, String text) {
+        out.writeBytes(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static byte[] deflate(byte[] content) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(content);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+
+    static byte[] resumePdf() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream stream = new PDPageContentStream(document, page)) {
+                stream.beginText();
+                stream.setFont(PDType1Font.HELVETICA, 12);
+                stream.setLeading(14);
+                stream.newLineAtOffset(72, 720);
+                stream.showText("Jane Doe");
+                stream.newLine();
+                stream.showText("jane.doe@example.com");
+                stream.endText();
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
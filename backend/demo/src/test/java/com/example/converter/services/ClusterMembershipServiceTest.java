@@ -0,0 +1,135 @@
+package com.example.converter.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+class ClusterMembershipServiceTest {
+
+    private static final String SELF = "http://node-a:8080";
+    private static final String PEER = "http://node-b:8080";
+    private static final String NEW_NODE = "http://node-c:8080";
+
+    private ClusterMembershipService service;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        service = clusterService("s3cret");
+        service.start();
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).ignoreExpectOrder(true).build();
+        ReflectionTestUtils.setField(service, "restClient", builder.build());
+    }
+
+    @Test
+    void clusterWithoutASecretRefusesToStart() {
+        ClusterMembershipService unsecured = clusterService("");
+
+        assertThatThrownBy(unsecured::start)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("cluster.secret");
+    }
+
+    @Test
+    void onlyTheSharedSecretAuthorizesMembershipChanges() {
+        assertThat(service.isAuthorized("s3cret")).isTrue();
+        assertThat(service.isAuthorized("guess")).isFalse();
+        assertThat(service.isAuthorized(null)).isFalse();
+    }
+
+    @Test
+    void announceSendsTheSecretAndAddsPeersThatAccept() {
+        server.expect(requestTo(PEER + "/cluster/nodes"))
+            .andExpect(method(HttpMethod.POST))
+            .andExpect(header(ClusterMembershipService.SECRET_HEADER, "s3cret"))
+            .andExpect(content().json("{\"url\":\"" + SELF + "\"}"))
+            .andRespond(withSuccess());
+
+        service.announce();
+
+        server.verify();
+        assertThat(healthy()).containsExactlyInAnyOrder(SELF, PEER);
+    }
+
+    @Test
+    void joiningNodeGoesOnTheRingOnlyOnceItIsHealthy() {
+        server.expect(requestTo(NEW_NODE + "/cluster/health")).andRespond(withServerError());
+
+        service.join(NEW_NODE + "/");
+
+        assertThat(members()).contains(NEW_NODE);
+        assertThat(healthy()).containsExactly(SELF);
+
+        server.verify();
+        server.reset();
+        server.expect(requestTo(NEW_NODE + "/cluster/health")).andRespond(withSuccess());
+        server.expect(requestTo(PEER + "/cluster/health")).andRespond(withSuccess());
+
+        service.checkHealth();
+
+        server.verify();
+        assertThat(healthy()).containsExactlyInAnyOrder(SELF, PEER, NEW_NODE);
+    }
+
+    @Test
+    void markedDownPeerReturnsAfterItsNextHealthCheck() {
+        server.expect(requestTo(PEER + "/cluster/health")).andRespond(withSuccess());
+        service.join(PEER);
+
+        service.markDown(PEER);
+        assertThat(healthy()).containsExactly(SELF);
+
+        server.verify();
+        server.reset();
+        server.expect(requestTo(PEER + "/cluster/health")).andRespond(withSuccess());
+        service.checkHealth();
+
+        server.verify();
+        assertThat(healthy()).containsExactlyInAnyOrder(SELF, PEER);
+    }
+
+    @Test
+    void leftPeerIsNoLongerHealthChecked() {
+        service.leave(PEER);
+        service.checkHealth();
+
+        server.verify();
+        assertThat(members()).containsExactly(SELF);
+    }
+
+    private static ClusterMembershipService clusterService(String secret) {
+        ClusterMembershipService service = new ClusterMembershipService();
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "selfUrl", SELF);
+        ReflectionTestUtils.setField(service, "seedUrls", List.of(PEER));
+        ReflectionTestUtils.setField(service, "secret", secret);
+        ReflectionTestUtils.setField(service, "virtualNodes", 64);
+        ReflectionTestUtils.setField(service, "healthTimeoutMillis", 1000);
+        return service;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Iterable<String> members() {
+        return (Iterable<String>) service.status().get("members");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Iterable<String> healthy() {
+        return (Iterable<String>) service.status().get("healthy");
+    }
+}
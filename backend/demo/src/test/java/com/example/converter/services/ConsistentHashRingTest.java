@@ -0,0 +1,87 @@
+package com.example.converter.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 10_000;
+
+    @Test
+    void emptyRingHasNoOwner() {
+        ConsistentHashRing ring = new ConsistentHashRing(128);
+
+        assertThat(ring.nodeFor("resume.pdf")).isNull();
+    }
+
+    @Test
+    void ownerIsStableAcrossLookupsAndRings() {
+        ConsistentHashRing ring = ringOf("http://a:8080", "http://b:8080", "http://c:8080");
+        ConsistentHashRing sameMembers = ringOf("http://c:8080", "http://a:8080", "http://b:8080");
+
+        for (int i = 0; i < 100; i++) {
+            String key = "file-" + i;
+            assertThat(ring.nodeFor(key)).isEqualTo(ring.nodeFor(key)).isEqualTo(sameMembers.nodeFor(key));
+        }
+    }
+
+    @Test
+    void addingANodeMovesAboutOneNthOfTheKeysToIt() {
+        ConsistentHashRing ring = ringOf("http://a:8080", "http://b:8080", "http://c:8080");
+        Map<String, String> before = owners(ring);
+
+        ring.add("http://d:8080");
+        Map<String, String> after = owners(ring);
+
+        int moved = 0;
+        for (String key : before.keySet()) {
+            if (!before.get(key).equals(after.get(key))) {
+                assertThat(after.get(key)).isEqualTo("http://d:8080");
+                moved++;
+            }
+        }
+        assertThat(moved).isBetween(KEYS / 4 / 2, KEYS / 4 * 3 / 2);
+    }
+
+    @Test
+    void removingANodeOnlyMovesItsOwnKeys() {
+        ConsistentHashRing ring = ringOf("http://a:8080", "http://b:8080", "http://c:8080", "http://d:8080");
+        Map<String, String> before = owners(ring);
+
+        ring.remove("http://d:8080");
+        Map<String, String> after = owners(ring);
+
+        int moved = 0;
+        for (String key : before.keySet()) {
+            if (before.get(key).equals("http://d:8080")) {
+                assertThat(after.get(key)).isNotEqualTo("http://d:8080");
+                moved++;
+            } else {
+                assertThat(after.get(key)).isEqualTo(before.get(key));
+            }
+        }
+        assertThat(moved).isBetween(KEYS / 4 / 2, KEYS / 4 * 3 / 2);
+        assertThat(ring.getNodes()).containsExactlyInAnyOrder("http://a:8080", "http://b:8080", "http://c:8080");
+    }
+
+    private static ConsistentHashRing ringOf(String... nodes) {
+        ConsistentHashRing ring = new ConsistentHashRing(128);
+        for (String node : nodes) {
+            ring.add(node);
+        }
+        return ring;
+    }
+
+    private static Map<String, String> owners(ConsistentHashRing ring) {
+        Map<String, String> owners = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            String key = "file-" + i;
+            owners.put(key, ring.nodeFor(key));
+        }
+        return owners;
+    }
+}
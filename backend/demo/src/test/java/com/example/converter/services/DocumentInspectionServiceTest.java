@@ -0,0 +1,212 @@
+package com.example.converter.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.converter.dto.DocumentInspectionDto;
+import com.example.converter.exception.UnsupportedDocumentException;
+
+class DocumentInspectionServiceTest {
+
+    private static final String DOCUMENT_XML =
+        "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\">"
+        + "<w:body><w:p><w:r><w:t>Jane Doe</w:t></w:r></w:p></w:body></w:document>";
+
+    private DocumentInspectionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DocumentInspectionService();
+        ReflectionTestUtils.setField(service, "maxBytes", 10L * 1024 * 1024);
+        ReflectionTestUtils.setField(service, "maxPages", 100);
+        ReflectionTestUtils.setField(service, "maxUncompressedBytes", 1024L * 1024);
+        ReflectionTestUtils.setField(service, "largeBytes", 2L * 1024 * 1024);
+        ReflectionTestUtils.setField(service, "largePages", 10);
+        ReflectionTestUtils.setField(service, "largePartBytes", 512L * 1024);
+        ReflectionTestUtils.setField(service, "imageHeavyRatio", 0.8);
+    }
+
+    @Test
+    void plainPdfIsParsedOnTheNormalPath() throws IOException {
+        DocumentInspectionDto inspection = service.inspect("plain.pdf", pdf(
+            "3 0 obj <</Type /Page /Parent 2 0 R /Resources <</Font <</F1 4 0 R>>>>>> endobj\n"
+            + "4 0 obj <</Type /Font /Subtype /Type1 /BaseFont /Helvetica>> endobj\n",
+            ""));
+
+        assertThat(inspection.getFormat()).isEqualTo("pdf");
+        assertThat(inspection.getPageCount()).isEqualTo(1);
+        assertThat(inspection.isEncrypted()).isFalse();
+        assertThat(inspection.isLowPriority()).isFalse();
+    }
+
+    @Test
+    void encryptedPdfIsRoutedToLowPriority() throws IOException {
+        DocumentInspectionDto inspection = service.inspect("encrypted.pdf", pdf(
+            "3 0 obj <</Type /Page /Parent 2 0 R /Resources <</Font <</F1 4 0 R>>>>>> endobj\n"
+            + "4 0 obj <</Type /Font /Subtype /Type1 /BaseFont /Helvetica>> endobj\n",
+            " /Encrypt 5 0 R"));
+
+        assertThat(inspection.isEncrypted()).isTrue();
+        assertThat(inspection.isLowPriority()).isTrue();
+        assertThat(inspection.getRouteReason()).isEqualTo("encrypted");
+    }
+
+    @Test
+    void imageOnlyPdfIsRoutedToLowPriority() throws IOException {
+        DocumentInspectionDto inspection = service.inspect("scan.pdf", pdf(
+            "3 0 obj <</Type /Page /Parent 2 0 R /Resources <</XObject <</Im1 4 0 R>>>>>> endobj\n"
+            + imageObject(4),
+            ""));
+
+        assertThat(inspection.getImageCount()).isEqualTo(1);
+        assertThat(inspection.isLowPriority()).isTrue();
+        assertThat(inspection.getRouteReason()).isEqualTo("no text layer");
+    }
+
+    @Test
+    void imagePdfWithObjectStreamsIsNotTreatedAsTextless() throws IOException {
+        // Fonts live inside the compressed object stream, so no /Font token is visible
+        DocumentInspectionDto inspection = service.inspect("pdftex.pdf", pdf(
+            "3 0 obj <</Type /ObjStm /N 2 /First 10 /Length 8>> stream\nxxxxxxxx\nendstream endobj\n"
+            + imageObject(4),
+            ""));
+
+        assertThat(inspection.isLowPriority()).isFalse();
+    }
+
+    @Test
+    void objectStreamPdfUsesThePageTreeCountWhenPagesAreHidden() throws IOException {
+        // Page objects are compressed away, but the page tree root is a plain object
+        byte[] content = ("%PDF-1.5\n"
+            + "1 0 obj <</Type /Catalog /Pages 2 0 R>> endobj\n"
+            + "2 0 obj <</Type /Pages /Kids [4 0 R 5 0 R] /Count 250>> endobj\n"
+            + "3 0 obj <</Type /ObjStm /N 250 /First 10 /Length 8>> stream\nxxxxxxxx\nendstream endobj\n"
+            + "trailer <</Root 1 0 R>>\n%%EOF\n").getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThatThrownBy(() -> service.inspect("long.pdf", content))
+            .isInstanceOf(UnsupportedDocumentException.class)
+            .hasMessageContaining("too many pages: 250");
+    }
+
+    @Test
+    void fullyCompressedPdfLeavesThePageCountToTheParser() throws IOException {
+        byte[] content = ("%PDF-1.5\n"
+            + "3 0 obj <</Type /ObjStm /N 250 /First 10 /Length 8>> stream\nxxxxxxxx\nendstream endobj\n"
+            + "4 0 obj <</Type /XRef /Root 1 0 R /Size 5 /Length 8>> stream\nxxxxxxxx\nendstream endobj\n"
+            + "%%EOF\n").getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThat(service.inspect("long.pdf", content).getPageCount()).isEqualTo(-1);
+        assertThatThrownBy(() -> service.checkPageLimit(250))
+            .isInstanceOf(UnsupportedDocumentException.class)
+            .hasMessageContaining("too many pages: 250");
+    }
+
+    @Test
+    void validDocxIsParsedOnTheNormalPath() throws IOException {
+        Map<String, byte[]> parts = docxParts();
+        DocumentInspectionDto inspection = service.inspect("resume.docx", zip(parts));
+
+        assertThat(inspection.getFormat()).isEqualTo("docx");
+        assertThat(inspection.getPageCount()).isEqualTo(2);
+        assertThat(inspection.getUncompressedBytes()).isPositive();
+        assertThat(inspection.isLowPriority()).isFalse();
+    }
+
+    @Test
+    void docxWithTruncatedDirectoryIsRejected() throws IOException {
+        byte[] valid = zip(docxParts());
+        byte[] truncated = Arrays.copyOf(valid, valid.length - 30);
+
+        assertThatThrownBy(() -> service.inspect("truncated.docx", truncated))
+            .isInstanceOf(UnsupportedDocumentException.class)
+            .hasMessageContaining("zip directory");
+    }
+
+    @Test
+    void docxWithoutDocumentPartIsRejected() throws IOException {
+        Map<String, byte[]> parts = docxParts();
+        parts.remove("word/document.xml");
+
+        assertThatThrownBy(() -> service.inspect("empty.docx", zip(parts)))
+            .isInstanceOf(UnsupportedDocumentException.class)
+            .hasMessageContaining("word/document.xml");
+    }
+
+    @Test
+    void docxZipBombIsRejected() throws IOException {
+        Map<String, byte[]> parts = docxParts();
+        parts.put("word/media/image1.png", new byte[2 * 1024 * 1024]);
+
+        assertThatThrownBy(() -> service.inspect("bomb.docx", zip(parts)))
+            .isInstanceOf(UnsupportedDocumentException.class)
+            .hasMessageContaining("expands to");
+    }
+
+    @Test
+    void ole2DocumentIsRejected() {
+        byte[] content = new byte[512];
+        byte[] magic = {
+            (byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1
+        };
+        System.arraycopy(magic, 0, content, 0, magic.length);
+
+        assertThatThrownBy(() -> service.inspect("legacy.doc", content))
+            .isInstanceOf(UnsupportedDocumentException.class)
+            .hasMessageContaining("Legacy .doc");
+    }
+
+    @Test
+    void unknownFormatIsRejected() {
+        assertThatThrownBy(() -> service.inspect("notes.pdf", "hello".getBytes(StandardCharsets.US_ASCII)))
+            .isInstanceOf(UnsupportedDocumentException.class)
+            .hasMessage("Unsupported file format");
+    }
+
+    private static byte[] pdf(String pageObjects, String trailerExtra) {
+        String pdf = "%PDF-1.5\n"
+            + "1 0 obj <</Type /Catalog /Pages 2 0 R>> endobj\n"
+            + "2 0 obj <</Type /Pages /Kids [3 0 R] /Count 1>> endobj\n"
+            + pageObjects
+            + "trailer <</Root 1 0 R" + trailerExtra + ">>\n"
+            + "%%EOF\n";
+        return pdf.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static String imageObject(int number) {
+        return number + " 0 obj <</Type /XObject /Subtype /Image /Width 2 /Height 2 /Length 12>> stream\n"
+            + "abcdefghijkl\nendstream endobj\n";
+    }
+
+    private static Map<String, byte[]> docxParts() {
+        Map<String, byte[]> parts = new LinkedHashMap<>();
+        parts.put("[Content_Types].xml", "<Types/>".getBytes(StandardCharsets.UTF_8));
+        parts.put("docProps/app.xml", "<Properties><Pages>2</Pages></Properties>".getBytes(StandardCharsets.UTF_8));
+        parts.put("word/document.xml", DOCUMENT_XML.getBytes(StandardCharsets.UTF_8));
+        return parts;
+    }
+
+    private static byte[] zip(Map<String, byte[]> parts) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, byte[]> part : parts.entrySet()) {
+                zip.putNextEntry(new ZipEntry(part.getKey()));
+                zip.write(part.getValue());
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.converter.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class LocalDocumentStoreTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private LocalDocumentStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LocalDocumentStore();
+        ReflectionTestUtils.setField(store, "uploadDir", uploadDir.toString());
+    }
+
+    @Test
+    void resolveRejectsIdsThatEscapeTheUploadDir() {
+        assertThatThrownBy(() -> store.resolve("../secret.pdf"))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Invalid file name");
+        assertThatThrownBy(() -> store.resolve("nested/../../secret.pdf"))
+            .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> store.resolve("nested/resume.pdf"))
+            .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> store.read("../secret.pdf"))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void resolveKeepsPlainIdsInsideTheUploadDir() throws IOException {
+        assertThat(store.resolve("123_resume.pdf"))
+            .isEqualTo(uploadDir.toAbsolutePath().normalize().resolve("123_resume.pdf"));
+    }
+
+    @Test
+    void saveRefusesToOverwriteAnExistingFile() throws IOException {
+        store.save("resume.pdf", stream("first"));
+
+        assertThatThrownBy(() -> store.save("resume.pdf", stream("second")))
+            .isInstanceOf(FileAlreadyExistsException.class);
+        assertThat(new String(store.read("resume.pdf"), StandardCharsets.UTF_8)).isEqualTo("first");
+        try (var files = Files.list(uploadDir)) {
+            assertThat(files).containsExactly(uploadDir.resolve("resume.pdf"));
+        }
+    }
+
+    @Test
+    void savedFilesGetTheSamePermissionsAsAnyOtherNewFile() throws IOException {
+        assumeTrue(uploadDir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Path reference = Files.createFile(uploadDir.resolve("reference"));
+
+        store.save("resume.pdf", stream("content"));
+
+        assertThat(Files.getPosixFilePermissions(uploadDir.resolve("resume.pdf")))
+            .isEqualTo(Files.getPosixFilePermissions(reference));
+    }
+
+    @Test
+    void failedWriteLeavesNoFileBehind() throws IOException {
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThatThrownBy(() -> store.save("resume.pdf", broken)).hasMessage("connection reset");
+        assertThat(uploadDir.resolve("resume.pdf")).doesNotExist();
+
+        store.save("resume.pdf", stream("retry"));
+        assertThat(new String(store.read("resume.pdf"), StandardCharsets.UTF_8)).isEqualTo("retry");
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.converter.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.converter.exception.ParseTimeoutException;
+
+class ParseDeadlineTest {
+
+    @Test
+    void checkpointPassesBeforeTheDeadline() {
+        ParseDeadline deadline = new ParseDeadline(60_000);
+
+        deadline.enter("skills");
+
+        assertThat(deadline.getStage()).isEqualTo("skills");
+    }
+
+    @Test
+    void checkpointFailsAfterTheDeadlineWithTheCurrentStage() throws InterruptedException {
+        ParseDeadline deadline = new ParseDeadline(1);
+        Thread.sleep(5);
+
+        assertThatThrownBy(() -> deadline.enter("education"))
+            .isInstanceOf(ParseTimeoutException.class)
+            .extracting("stage")
+            .isEqualTo("education");
+    }
+
+    @Test
+    void checkpointFailsOnceTheWorkerIsAbandoned() {
+        ParseDeadline deadline = new ParseDeadline(60_000);
+        assertThat(deadline.startWorker()).isTrue();
+
+        assertThat(deadline.abandonWorker()).isTrue();
+        assertThatThrownBy(deadline::checkpoint).isInstanceOf(ParseTimeoutException.class);
+        assertThat(deadline.finishWorker()).isTrue();
+    }
+
+    @Test
+    void queuedWorkerIsNotCountedAsStuck() {
+        ParseDeadline deadline = new ParseDeadline(60_000);
+
+        assertThat(deadline.abandonWorker()).isFalse();
+        assertThat(deadline.startWorker()).isFalse();
+    }
+
+    @Test
+    void onlyAQueuedWorkerCanBeDroppedFromTheQueue() {
+        ParseDeadline queued = new ParseDeadline(60_000);
+        assertThat(queued.abandonQueuedWorker()).isTrue();
+        assertThat(queued.startWorker()).isFalse();
+
+        ParseDeadline running = new ParseDeadline(60_000);
+        assertThat(running.startWorker()).isTrue();
+        assertThat(running.abandonQueuedWorker()).isFalse();
+        assertThat(running.abandonWorker()).isTrue();
+    }
+
+    @Test
+    void guardedTextStopsARegexScanOnceTheDeadlinePasses() throws InterruptedException {
+        // One enormous line, as produced by a malformed PDF, scanned by the email regex
+        Pattern emailPattern = Pattern.compile("\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}\\b");
+        String line = "word ".repeat(100_000);
+        ParseDeadline deadline = new ParseDeadline(1);
+        Thread.sleep(5);
+
+        assertThat(emailPattern.matcher(line).find()).isFalse();
+        assertThatThrownBy(() -> emailPattern.matcher(deadline.guard(line)).find())
+            .isInstanceOf(ParseTimeoutException.class);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.converter.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+class ParseRoutingServiceTest {
+
+    private static final String SELF = "http://node-a:8080";
+    private static final String PEER = "http://node-b:8080";
+
+    private ClusterMembershipService membership;
+    private ParseRoutingService routing;
+    private MockRestServiceServer peer;
+
+    @BeforeEach
+    void setUp() {
+        membership = new ClusterMembershipService();
+        ReflectionTestUtils.setField(membership, "enabled", true);
+        ReflectionTestUtils.setField(membership, "selfUrl", SELF);
+        ReflectionTestUtils.setField(membership, "seedUrls", List.of(PEER));
+        ReflectionTestUtils.setField(membership, "secret", "s3cret");
+        ReflectionTestUtils.setField(membership, "virtualNodes", 64);
+        ReflectionTestUtils.setField(membership, "healthTimeoutMillis", 1000);
+        membership.start();
+        RestClient.Builder healthBuilder = RestClient.builder();
+        MockRestServiceServer health = MockRestServiceServer.bindTo(healthBuilder).build();
+        ReflectionTestUtils.setField(membership, "restClient", healthBuilder.build());
+        health.expect(requestTo(PEER + "/cluster/health")).andRespond(withSuccess());
+        membership.join(PEER);
+
+        routing = new ParseRoutingService();
+        ReflectionTestUtils.setField(routing, "clusterMembershipService", membership);
+        ReflectionTestUtils.setField(routing, "connectTimeoutMillis", 1000);
+        ReflectionTestUtils.setField(routing, "forwardTimeoutMillis", 1000);
+        routing.start();
+        RestClient.Builder forwardBuilder = RestClient.builder();
+        peer = MockRestServiceServer.bindTo(forwardBuilder).build();
+        ReflectionTestUtils.setField(routing, "restClient", forwardBuilder.build());
+    }
+
+    @Test
+    void fileOwnedByAPeerIsForwardedToIt() {
+        String fileName = fileOwnedBy(PEER);
+        peer.expect(requestTo(PEER + "/parse"))
+            .andExpect(method(HttpMethod.POST))
+            .andExpect(header(ParseRoutingService.FORWARDED_HEADER, SELF))
+            .andExpect(content().json("{\"fileName\":\"" + fileName + "\"}"))
+            .andRespond(withSuccess("{\"partial\":false}", MediaType.APPLICATION_JSON));
+
+        ResponseEntity<?> response = routing.forwardToOwner(fileName).orElseThrow();
+
+        peer.verify();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(body(response)).isEqualTo("{\"partial\":false}");
+    }
+
+    @Test
+    void fileOwnedByThisNodeIsNotForwarded() {
+        Optional<ResponseEntity<?>> response = routing.forwardToOwner(fileOwnedBy(SELF));
+
+        peer.verify();
+        assertThat(response).isEmpty();
+    }
+
+    @Test
+    void ownerErrorIsPassedThroughWithItsHeaders() {
+        peer.expect(requestTo(PEER + "/parse"))
+            .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body("Parser is busy"));
+
+        ResponseEntity<?> response = routing.forwardToOwner(fileOwnedBy(PEER)).orElseThrow();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+        assertThat(body(response)).isEqualTo("Parser is busy");
+        assertThat(healthy()).contains(PEER);
+    }
+
+    @Test
+    void unreachableOwnerIsMarkedDownAndParsedLocally() {
+        peer.expect(requestTo(PEER + "/parse")).andRespond(withException(new ConnectException("Connection refused")));
+
+        Optional<ResponseEntity<?>> response = routing.forwardToOwner(fileOwnedBy(PEER));
+
+        assertThat(response).isEmpty();
+        assertThat(healthy()).containsExactly(SELF);
+    }
+
+    @Test
+    void connectTimeoutMarksTheOwnerDown() {
+        peer.expect(requestTo(PEER + "/parse")).andRespond(withException(new HttpConnectTimeoutException("timed out")));
+
+        assertThat(routing.forwardToOwner(fileOwnedBy(PEER))).isEmpty();
+        assertThat(healthy()).containsExactly(SELF);
+    }
+
+    @Test
+    void slowOwnerIsNeitherMarkedDownNorParsedAgainLocally() {
+        peer.expect(requestTo(PEER + "/parse")).andRespond(withException(new HttpTimeoutException("request timed out")));
+
+        ResponseEntity<?> response = routing.forwardToOwner(fileOwnedBy(PEER)).orElseThrow();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(healthy()).contains(PEER);
+    }
+
+    private String fileOwnedBy(String node) {
+        for (int i = 0; ; i++) {
+            String fileName = "resume-" + i + ".pdf";
+            if (node.equals(membership.ownerOf(fileName))) {
+                return fileName;
+            }
+        }
+    }
+
+    private static String body(ResponseEntity<?> response) {
+        return new String((byte[]) response.getBody(), StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Iterable<String> healthy() {
+        return (Iterable<String>) membership.status().get("healthy");
+    }
+}
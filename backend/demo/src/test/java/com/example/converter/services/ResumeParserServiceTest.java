@@ -0,0 +1,227 @@
+package com.example.converter.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.converter.dto.DocumentInspectionDto;
+import com.example.converter.dto.PersonalInfoDto;
+import com.example.converter.dto.PortfolioDataDto;
+import com.example.converter.exception.ParseTimeoutException;
+import com.example.converter.exception.ParserBusyException;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class ResumeParserServiceTest {
+
+    private ResumeParserService service;
+    private ParseMetricsService metrics;
+    private ThreadPoolExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        service = new ResumeParserService();
+        metrics = new ParseMetricsService();
+        ReflectionTestUtils.setField(service, "parseMetricsService", metrics);
+        ReflectionTestUtils.setField(service, "maxReplacementThreads", 8);
+        ReflectionTestUtils.setField(service, "retryAfterSeconds", 5);
+        DocumentInspectionService inspectionService = new DocumentInspectionService();
+        ReflectionTestUtils.setField(inspectionService, "maxPages", 100);
+        ReflectionTestUtils.setField(service, "documentInspectionService", inspectionService);
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void stageIgnoringItsCheckpointStillYieldsPartialResult() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ParseDeadline deadline = new ParseDeadline(200);
+
+        PortfolioDataDto result = service.parseWithDeadline(executor, 200, deadline, "stuck.pdf", partial -> {
+            synchronized (partial) {
+                partial.setPersonalInfo(new PersonalInfoDto("Jane Doe", "jane@example.com", "N/A", "N/A"));
+                partial.setSkills(List.of("Java"));
+            }
+            // Simulates PDFBox or POI hanging: never checks the deadline and swallows interrupts
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    // keep hanging
+                }
+            }
+        });
+
+        assertThat(result.isPartial()).isTrue();
+        assertThat(result.getPersonalInfo().getName()).isEqualTo("Jane Doe");
+        assertThat(result.getSkills()).containsExactly("Java");
+        assertThat(result.getIncompleteSections()).containsExactly("education", "experience");
+        assertThat(result.getEducation()).isEmpty();
+        assertThat(result.getExperience()).isEmpty();
+
+        assertThat(metrics.getStuckWorkers()).isEqualTo(1);
+        assertThat(executor.getCorePoolSize()).isEqualTo(2);
+
+        release.countDown();
+        long waitUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (metrics.getStuckWorkers() > 0 && System.nanoTime() < waitUntil) {
+            Thread.sleep(10);
+        }
+        assertThat(metrics.getStuckWorkers()).isZero();
+        assertThat(executor.getCorePoolSize()).isEqualTo(1);
+    }
+
+    @Test
+    void deadlineExpiringInTheQueueIsReportedAsBusy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            release.await();
+            return null;
+        });
+
+        try {
+            assertThatThrownBy(() -> service.parseWithDeadline(executor, 100, new ParseDeadline(100), "queued.pdf",
+                    partial -> { throw new AssertionError("queued parse must not run"); }))
+                .isInstanceOf(ParserBusyException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(5);
+            assertThat(executor.getQueue()).isEmpty();
+            assertThat(metrics.snapshot()).containsEntry("queueTimeouts", 1L).containsEntry("timeouts", 0L);
+            assertThat(metrics.getStuckWorkers()).isZero();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void fullQueueIsReportedAsBusy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            release.await();
+            return null;
+        });
+        executor.submit(() -> null);
+
+        try {
+            assertThatThrownBy(() -> service.parseWithDeadline(executor, 1000, new ParseDeadline(1000), "busy.pdf",
+                    partial -> { }))
+                .isInstanceOf(ParserBusyException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(5);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void failedLoadStillRecordsTheLoadStage() throws IOException {
+        ParseTrace trace = new ParseTrace(new DocumentInspectionDto("broken.pdf", "pdf", 16));
+        byte[] content = "%PDF-1.4\nnot a pdf".getBytes(StandardCharsets.ISO_8859_1);
+
+        List<RecordedEvent> events = recordParserEvents(() ->
+            assertThatThrownBy(() -> service.parseDocument(content, new ParseDeadline(60_000), trace, new PortfolioDataDto()))
+                .isInstanceOf(IOException.class));
+
+        assertThat(trace.getStageMillis()).containsOnlyKeys("documentLoad");
+        RecordedEvent load = single(events, "com.example.converter.DocumentLoad", "broken.pdf");
+        assertThat(load.getString("error")).isNotNull();
+        assertThat(load.getBoolean("timedOut")).isFalse();
+    }
+
+    @Test
+    void textStripCutOffByTheDeadlineStillRecordsItsStage() throws IOException {
+        ParseTrace trace = new ParseTrace(new DocumentInspectionDto("slow.pdf", "pdf", 16));
+        // Expires at the first page checkpoint inside text stripping, after load has succeeded
+        ParseDeadline deadline = new ParseDeadline(60_000) {
+            private int stripChecks;
+
+            @Override
+            public void checkpoint() {
+                if ("textStrip".equals(getStage()) && ++stripChecks > 1) {
+                    throw new ParseTimeoutException(getStage());
+                }
+                super.checkpoint();
+            }
+        };
+
+        List<RecordedEvent> events = recordParserEvents(() ->
+            assertThatThrownBy(() -> service.parseDocument(onePagePdf(), deadline, trace, new PortfolioDataDto()))
+                .isInstanceOf(ParseTimeoutException.class)
+                .extracting("stage")
+                .isEqualTo("textStrip"));
+
+        assertThat(trace.getStageMillis()).containsOnlyKeys("documentLoad", "textStrip");
+        RecordedEvent strip = single(events, "com.example.converter.TextStrip", "slow.pdf");
+        assertThat(strip.getBoolean("timedOut")).isTrue();
+        assertThat(strip.getString("error")).isNull();
+        assertThat(single(events, "com.example.converter.DocumentLoad", "slow.pdf").getBoolean("timedOut")).isFalse();
+    }
+
+    private List<RecordedEvent> recordParserEvents(Runnable parse) throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.enable("com.example.converter.DocumentLoad");
+            recording.enable("com.example.converter.TextStrip");
+            recording.start();
+            parse.run();
+            recording.stop();
+            Path dump = Files.createTempFile("parser-events", ".jfr");
+            try {
+                recording.dump(dump);
+                return RecordingFile.readAllEvents(dump);
+            } finally {
+                Files.deleteIfExists(dump);
+            }
+        }
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String eventName, String fileName) {
+        List<RecordedEvent> matching = events.stream()
+            .filter(event -> event.getEventType().getName().equals(eventName))
+            .filter(event -> fileName.equals(event.getString("fileName")))
+            .toList();
+        assertThat(matching).hasSize(1);
+        return matching.get(0);
+    }
+
+    private static byte[] onePagePdf() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream stream = new PDPageContentStream(document, page)) {
+                stream.beginText();
+                stream.setFont(PDType1Font.HELVETICA, 12);
+                stream.newLineAtOffset(72, 720);
+                stream.showText("Jane Doe");
+                stream.endText();
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.converter.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.converter.dto.DocumentInspectionDto;
+import com.example.converter.dto.PersonalInfoDto;
+import com.example.converter.dto.PortfolioDataDto;
+
+class SlowParseCaptureServiceTest {
+
+    @TempDir
+    Path captureDir;
+
+    private SlowParseCaptureService service;
+    private ParseTrace trace;
+
+    @BeforeEach
+    void setUp() {
+        service = new SlowParseCaptureService();
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "thresholdMillis", 0L);
+        ReflectionTestUtils.setField(service, "captureDir", captureDir.toString());
+        ReflectionTestUtils.setField(service, "maxFiles", 20);
+        trace = new ParseTrace(new DocumentInspectionDto("resume.pdf", "pdf", 4));
+        trace.recordStage("documentLoad", 3_000_000L);
+    }
+
+    @Test
+    void failedParseIsCapturedWithItsError() throws IOException {
+        service.captureIfSlow(new byte[] {1, 2, 3, 4}, trace, null, "documentLoad", new IOException("broken xref"));
+
+        List<String> timings = timings();
+        assertThat(timings).contains("error=java.io.IOException", "failedStage=documentLoad", "stage.documentLoadMs=3");
+        assertThat(timings).noneMatch(line -> line.startsWith("partial="));
+    }
+
+    @Test
+    void timedOutParseIsCapturedWithItsStage() throws IOException {
+        PortfolioDataDto result = new PortfolioDataDto(
+            new PersonalInfoDto("Jane Doe", "Not Found", "Not Found", "Not Found"), List.of(), List.of(), List.of());
+        result.setPartial(true);
+        result.setIncompleteSections(List.of("education", "experience"));
+
+        service.captureIfSlow(new byte[] {1, 2, 3, 4}, trace, result, "education", null);
+
+        assertThat(timings()).contains(
+            "partial=true", "incompleteSections=education,experience", "timedOutStage=education");
+    }
+
+    @Test
+    void stageStillRunningAtTheDeadlineIsTimed() throws IOException {
+        trace.beginStage("textStrip");
+
+        service.captureIfSlow(new byte[] {1, 2, 3, 4}, trace, null, "textStrip", new IOException("abandoned"));
+
+        assertThat(timings()).anyMatch(line -> line.startsWith("stage.textStripMs="));
+    }
+
+    @Test
+    void repeatedCapturesOfOneFileKeepOnlyTheLatest() throws IOException {
+        service.captureIfSlow(new byte[] {1}, trace, null, "documentLoad", new IOException("first"));
+        service.captureIfSlow(new byte[] {2}, trace, null, "textStrip", new IOException("second"));
+
+        assertThat(files()).hasSize(2);
+        assertThat(timings()).contains("failedStage=textStrip");
+    }
+
+    @Test
+    void oldestCaptureIsRotatedOutWithItsTimings() throws IOException {
+        ReflectionTestUtils.setField(service, "maxFiles", 2);
+
+        for (String fileName : List.of("first.pdf", "second.pdf", "third.pdf")) {
+            ParseTrace fileTrace = new ParseTrace(new DocumentInspectionDto(fileName, "pdf", 1));
+            service.captureIfSlow(new byte[] {1}, fileTrace, null, "documentLoad", new IOException("slow"));
+        }
+
+        assertThat(files())
+            .hasSize(4)
+            .noneMatch(name -> name.contains("first.pdf"))
+            .anyMatch(name -> name.endsWith("_second.pdf"))
+            .anyMatch(name -> name.endsWith("_second.pdf.timings.properties"))
+            .anyMatch(name -> name.endsWith("_third.pdf"))
+            .anyMatch(name -> name.endsWith("_third.pdf.timings.properties"));
+    }
+
+    private List<String> files() throws IOException {
+        try (Stream<Path> files = Files.list(captureDir)) {
+            return files.map(path -> path.getFileName().toString()).toList();
+        }
+    }
+
+    private List<String> timings() throws IOException {
+        try (Stream<Path> files = Files.list(captureDir)) {
+            Path timings = files
+                .filter(path -> path.getFileName().toString().endsWith(".timings.properties"))
+                .findFirst()
+                .orElseThrow();
+            return Files.readAllLines(timings, StandardCharsets.UTF_8);
+        }
+    }
+}